@@ -0,0 +1,66 @@
+package com.tioh.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일괄 검증번호 계산: 건별 파이프라인 / 열 우선 스칼라 반복문 / Vector API
+ * <p>
+ * {@code vector} 결과는 JDK 17 이상으로 빌드한 multi-release JAR 을 클래스패스에 두고
+ * {@code -jvmArgsAppend --add-modules=jdk.incubator.vector} 옵션으로 실행해야 의미가 있다. (그 외에는 스칼라와 같음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchChecksumBenchmark {
+
+    @Param({"BUSINESS_REGISTRATION_NUMBER", "RESIDENT_REGISTRATION_NUMBER"})
+    ValidationType type;
+
+    @Param({"4096"})
+    int size;
+
+    CharSequence[] values;
+    byte[]         result;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        int length = type == ValidationType.BUSINESS_REGISTRATION_NUMBER ? 10 : 13;
+        values = new CharSequence[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                builder.append(j == 6 && length == 13 ? (char) ('1' + random.nextInt(4)) : (char) ('0' + random.nextInt(10)));
+            }
+            values[i] = builder.toString();
+        }
+        result = new byte[size];
+    }
+
+    @Benchmark
+    public byte[] pipeline() {
+        Pipeline pipeline = type.pipeline();
+        for (int i = 0; i < size; i++) {
+            result[i] = pipeline.check(values[i]).code();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] scalar() {
+        BatchChecksum.validate(type, values, 0, size, result, false);
+        return result;
+    }
+
+    @Benchmark
+    public byte[] vector() {
+        BatchChecksum.validate(type, values, 0, size, result, true);
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+package com.tioh.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BusinessRegistrationNumberBenchmark {
+
+    public enum Input {
+        VALID("1058169429"),
+        HYPHENATED("105-81-69429"),
+        SPACED("105 81 69429"),
+        EMPTY(""),
+        SIZE_LIMIT("10681971181"),
+        NUMBER_FORMAT("01000000ab"),
+        BUSINESS_REGISTRATION_NUMBER_FORMAT("0000000002");
+
+        private final String value;
+
+        Input(String value) {
+            this.value = value;
+        }
+    }
+
+    @Param
+    Input input;
+
+    private IValidator validator;
+
+    @Setup
+    public void setup() {
+        validator = Validator.getInstance();
+    }
+
+    @Benchmark
+    public Object businessRegistrationNumber() {
+        try {
+            return validator.businessRegistrationNumber(input.value);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.tioh.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스레드 수별 처리량 (싱글톤 조회 포함, 경합이 없으면 코어 수에 비례)
+ * <p>
+ * {@code -t} 옵션으로 스레드 수를 바꿔 실행한다. 예) {@code -t 1}, {@code -t 4}, {@code -t max}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrencyBenchmark {
+
+    @Param({"1058169429"})
+    String brn;
+
+    @Benchmark
+    @Threads(1)
+    public Reason singleThread() {
+        return Validator.getInstance().checkBusinessRegistrationNumber(brn);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Reason fourThreads() {
+        return Validator.getInstance().checkBusinessRegistrationNumber(brn);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Reason allThreads() {
+        return Validator.getInstance().checkBusinessRegistrationNumber(brn);
+    }
+}
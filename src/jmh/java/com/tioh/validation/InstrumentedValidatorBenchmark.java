@@ -0,0 +1,45 @@
+package com.tioh.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentedValidatorBenchmark {
+
+    @Param({"1058169429", "0000000002"})
+    String brn;
+
+    @Param({"1", "16"})
+    int latencySampling;
+
+    private IValidator validator;
+    private IValidator instrumented;
+
+    @Setup
+    public void setup() {
+        validator = Validator.getInstance();
+        instrumented = new InstrumentedValidator(validator, new ValidationMetrics(latencySampling));
+    }
+
+    @Benchmark
+    public Reason plain() {
+        return validator.checkBusinessRegistrationNumber(brn);
+    }
+
+    @Benchmark
+    public Reason instrumented() {
+        return instrumented.checkBusinessRegistrationNumber(brn);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Reason instrumentedContended() {
+        return instrumented.checkBusinessRegistrationNumber(brn);
+    }
+}
@@ -0,0 +1,85 @@
+package com.tioh.validation;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.helpers.NOPAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 정책별 검증 비용 (DEBUG 레벨, 출력은 버림)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    public enum Policy {
+        DISABLED, ENABLED, SAMPLED, UNMASKED
+    }
+
+    @Param
+    Policy policy;
+
+    @Param({"9001011234567"})
+    String rrn;
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("com.tioh.validation");
+    private final NOPAppender<ILoggingEvent> appender = new NOPAppender<>();
+    private IValidator validator;
+
+    @Setup
+    public void setup() {
+        appender.start();
+        logger.addAppender(appender);
+        logger.setAdditive(false);
+        logger.setLevel(Level.DEBUG);
+        LoggingPolicy.disable();
+        LoggingPolicy.setSampling(1);
+        LoggingPolicy.setMasking(true);
+        switch (policy) {
+            case ENABLED:
+                LoggingPolicy.enable();
+                break;
+            case SAMPLED:
+                LoggingPolicy.enable();
+                LoggingPolicy.setSampling(1024);
+                break;
+            case UNMASKED:
+                LoggingPolicy.enable();
+                LoggingPolicy.setMasking(false);
+                break;
+            default:
+                break;
+        }
+        validator = Validator.getInstance();
+    }
+
+    @TearDown
+    public void tearDown() {
+        logger.detachAppender(appender);
+        logger.setAdditive(true);
+        logger.setLevel(null);
+        LoggingPolicy.disable();
+    }
+
+    @Benchmark
+    public Reason residentRegistrationNumber() {
+        return validator.checkResidentRegistrationNumber(rrn);
+    }
+
+    /**
+     * 정책 없이 매 호출 로그를 남기던 이전 방식
+     */
+    @Benchmark
+    public Reason unguarded() {
+        logger.debug("Validate {}: {}", "Resident registration number", rrn);
+        return validator.checkResidentRegistrationNumber(rrn);
+    }
+}
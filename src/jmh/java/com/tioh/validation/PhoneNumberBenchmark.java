@@ -0,0 +1,50 @@
+package com.tioh.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PhoneNumberBenchmark {
+
+    public enum Input {
+        VALID("01012345678"),
+        VALID_AREA("0212345678"),
+        HYPHENATED("010-1234-5678"),
+        SPACED("010 1234 5678"),
+        EMPTY(""),
+        SIZE_LIMIT("01000"),
+        NUMBER_FORMAT("0100000000r"),
+        PHONE_NUMBER_FORMAT("1100000000");
+
+        private final String value;
+
+        Input(String value) {
+            this.value = value;
+        }
+    }
+
+    @Param
+    Input input;
+
+    private IValidator validator;
+
+    @Setup
+    public void setup() {
+        validator = Validator.getInstance();
+    }
+
+    @Benchmark
+    public Object mobilePhoneNumber() {
+        try {
+            return validator.mobilePhoneNumber(input.value);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.tioh.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResidentRegistrationNumberBenchmark {
+
+    public enum Input {
+        VALID("6407131018433"),
+        HYPHENATED("640713-1018433"),
+        SPACED("640713 1018433"),
+        EMPTY(""),
+        SIZE_LIMIT("660216112311"),
+        NUMBER_FORMAT("8110221a23112"),
+        GENDER_CODE("8110225123112"),
+        RESIDENT_REGISTRATION_NUMBER_FORMAT("7910011123141");
+
+        private final String value;
+
+        Input(String value) {
+            this.value = value;
+        }
+    }
+
+    @Param
+    Input input;
+
+    private IValidator validator;
+
+    @Setup
+    public void setup() {
+        validator = Validator.getInstance();
+    }
+
+    @Benchmark
+    public Object residentRegistrationNumber() {
+        try {
+            return validator.residentRegistrationNumber(input.value);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
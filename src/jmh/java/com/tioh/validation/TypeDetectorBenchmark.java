@@ -0,0 +1,106 @@
+package com.tioh.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종류를 모르는 입력 판별: 한 번 훑어 판별 / 다섯 검증기를 차례로 호출하며 예외 처리 / 다섯 검증기의 결과코드 확인
+ * <p>
+ * 입력은 다섯 종류를 섞은 번호이며 {@code invalid} 비율만큼 잘못된 번호가 섞여 있다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TypeDetectorBenchmark {
+
+    @Param({"0.0", "0.2"})
+    double invalid;
+
+    @Param({"1024"})
+    int size;
+
+    String[] values;
+
+    private IValidator validator;
+
+    @Setup
+    public void setup() {
+        validator = Validator.getInstance();
+        ValidationType[]      types      = ValidationType.values();
+        IdentifierGenerator[] generators = new IdentifierGenerator[types.length];
+        for (int i = 0; i < types.length; i++) {
+            generators[i] = IdentifierGenerator.builder(types[i]).seed(42).formatted(i % 2 == 0)
+                    .ratio(Reason.SIZE, invalid / 2)
+                    .ratio(types[i] == ValidationType.VEHICLE_REGISTRATION_NUMBER ? Reason.USAGE_SIGN
+                            : types[i] == ValidationType.VEHICLE_IDENTIFICATION_NUMBER ? Reason.ILLEGAL_CHAR
+                            : types[i] == ValidationType.MOBILE_PHONE_NUMBER ? Reason.FORMAT : Reason.CHECKSUM, invalid / 2)
+                    .build();
+        }
+        values = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = generators[i % types.length].get(i);
+        }
+    }
+
+    @Benchmark
+    public int detect() {
+        int valid = 0;
+        for (String value : values) {
+            Optional<ValidationResult> result = TypeDetector.detect(validator, value);
+            if (result.isPresent() && result.get().isValid()) valid++;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int tryAll() {
+        int valid = 0;
+        for (String value : values) {
+            if (tryAll(value) != null) valid++;
+        }
+        return valid;
+    }
+
+    @Benchmark
+    public int checkAll() {
+        int valid = 0;
+        for (String value : values) {
+            for (ValidationType type : ValidationType.values()) {
+                if (type.check(validator, value).isValid()) {
+                    valid++;
+                    break;
+                }
+            }
+        }
+        return valid;
+    }
+
+    private ValidationType tryAll(String value) {
+        try {
+            if (validator.businessRegistrationNumber(value)) return ValidationType.BUSINESS_REGISTRATION_NUMBER;
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            if (validator.residentRegistrationNumber(value)) return ValidationType.RESIDENT_REGISTRATION_NUMBER;
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            if (validator.vehicleRegistrationNumber(value)) return ValidationType.VEHICLE_REGISTRATION_NUMBER;
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            if (validator.vehicleIdentificationNumber(value)) return ValidationType.VEHICLE_IDENTIFICATION_NUMBER;
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            if (validator.mobilePhoneNumber(value)) return ValidationType.MOBILE_PHONE_NUMBER;
+        } catch (IllegalArgumentException ignored) {
+        }
+        return null;
+    }
+}
@@ -0,0 +1,49 @@
+package com.tioh.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VehicleIdentificationNumberBenchmark {
+
+    public enum Input {
+        VALID("WVWUK63B92P546818"),
+        LOWER_CASE("wvwuk63b92p546818"),
+        HYPHENATED("WVW-UK63B-92P-546818"),
+        EMPTY(""),
+        SIZE_LIMIT("WVWUK63B92P54681"),
+        ILLEGAL_CHARACTER("WVWUK63B92P54681I"),
+        VEHICLE_IDENTIFICATION_NUMBER_FORMAT("WVWUK63B82P546818");
+
+        private final String value;
+
+        Input(String value) {
+            this.value = value;
+        }
+    }
+
+    @Param
+    Input input;
+
+    private IValidator validator;
+
+    @Setup
+    public void setup() {
+        validator = Validator.getInstance();
+    }
+
+    @Benchmark
+    public Object vehicleIdentificationNumber() {
+        try {
+            return validator.vehicleIdentificationNumber(input.value);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.tioh.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VehicleRegistrationNumberBenchmark {
+
+    public enum Input {
+        VALID("09조0360"),
+        VALID_AREA("서울02가1111"),
+        SPACED("09 조 0360"),
+        EMPTY(""),
+        SIZE_LIMIT("서울2가1111"),
+        USAGE_SIGN("09차0360"),
+        AREA_SIGN("광명12가1234"),
+        VEHICLE_REGISTRATION_NUMBER_FORMAT("123가123");
+
+        private final String value;
+
+        Input(String value) {
+            this.value = value;
+        }
+    }
+
+    @Param
+    Input input;
+
+    private IValidator validator;
+
+    @Setup
+    public void setup() {
+        validator = Validator.getInstance();
+    }
+
+    @Benchmark
+    public Object vehicleRegistrationNumber() {
+        try {
+            return validator.vehicleRegistrationNumber(input.value);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
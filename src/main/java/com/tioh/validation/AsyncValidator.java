@@ -0,0 +1,276 @@
+package com.tioh.validation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link CompletableFuture} 를 반환하는 비동기 검증
+ * <p>
+ * 단건 요청은 종류별 대기열에 쌓이고, 대기열마다 실행 중인 작업이 최대 하나만 있도록 하여
+ * 몰려 들어온 요청을 최대 {@code batchSize} 건씩 묶어 {@link IValidator#validateAll(ValidationType, CharSequence[])} 로 처리한다.
+ * 대기열이 가득 차면 호출 스레드를 막지 않고 {@link RejectedExecutionException} 으로 완료된 future 를 반환한다.
+ *
+ * <pre>
+ * try (AsyncValidator validator = AsyncValidator.builder(Validator.getInstance()).virtualThreads().build()) {
+ *     validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1058169429")
+ *             .thenAccept(reason -&gt; ...);
+ * }
+ * </pre>
+ */
+public final class AsyncValidator implements AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE  = 1024;
+    public static final int DEFAULT_MAX_PENDING = 1 << 16;
+
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutorFactory();
+
+    private final IValidator      delegate;
+    private final Executor        executor;
+    private final ExecutorService owned;
+    private final Batcher[]       batchers;
+
+    private AsyncValidator(Builder builder) {
+        this.delegate = builder.delegate;
+        this.owned = builder.virtualThreads ? virtualThreadExecutor() : null;
+        this.executor = owned != null ? owned : builder.executor;
+        this.batchers = new Batcher[ValidationType.values().length];
+        for (ValidationType type : ValidationType.values()) {
+            batchers[type.ordinal()] = new Batcher(type, builder.batchSize, builder.maxPending);
+        }
+    }
+
+    public static Builder builder(IValidator delegate) {
+        return new Builder(delegate);
+    }
+
+    /**
+     * @return 실행 중인 JVM 이 가상 스레드(JDK 21+)를 지원하는지 여부
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * 단건 검증 (다른 요청과 묶여 처리될 수 있음)
+     *
+     * @param type  검증 대상 종류
+     * @param value 입력
+     * @return 결과코드
+     */
+    public CompletableFuture<Reason> check(ValidationType type, CharSequence value) {
+        return batchers[type.ordinal()].submit(value);
+    }
+
+    /**
+     * 일괄 검증
+     *
+     * @param type   검증 대상 종류
+     * @param values 입력 목록
+     * @return 입력 순서대로 담긴 결과코드 ({@link Reason#of(int)})
+     */
+    public CompletableFuture<byte[]> validateAll(ValidationType type, List<? extends CharSequence> values) {
+        return CompletableFuture.supplyAsync(() -> delegate.validateAll(type, values), executor);
+    }
+
+    /**
+     * 일괄 검증
+     *
+     * @param type   검증 대상 종류
+     * @param values 입력 배열
+     * @return 입력 순서대로 담긴 결과코드 ({@link Reason#of(int)})
+     */
+    public CompletableFuture<byte[]> validateAll(ValidationType type, CharSequence[] values) {
+        return CompletableFuture.supplyAsync(() -> delegate.validateAll(type, values), executor);
+    }
+
+    /**
+     * 빌더에서 만든 실행기(가상 스레드)만 종료한다. 외부에서 받은 실행기는 종료하지 않는다.
+     */
+    @Override
+    public void close() {
+        if (owned != null) owned.shutdown();
+    }
+
+    /**
+     * @return 가상 스레드 실행기, 지원하지 않으면 null
+     */
+    private static ExecutorService virtualThreadExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR == null) return null;
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot create virtual thread executor", e);
+        }
+    }
+
+    private static MethodHandle virtualThreadExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static final class Request {
+
+        private final CharSequence              value;
+        private final CompletableFuture<Reason> future = new CompletableFuture<>();
+
+        private Request(CharSequence value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * 종류별 대기열과 묶음 처리
+     */
+    private final class Batcher implements Runnable {
+
+        private final ValidationType         type;
+        private final int                    batchSize;
+        private final BlockingQueue<Request> queue;
+        private final AtomicBoolean          scheduled = new AtomicBoolean();
+
+        private Batcher(ValidationType type, int batchSize, int maxPending) {
+            this.type = type;
+            this.batchSize = batchSize;
+            this.queue = new ArrayBlockingQueue<>(maxPending);
+        }
+
+        CompletableFuture<Reason> submit(CharSequence value) {
+            Request request = new Request(value);
+            if (!queue.offer(request)) {
+                request.future.completeExceptionally(new RejectedExecutionException(
+                        String.format("Too many pending %s validations: %d", type, queue.size())));
+                return request.future;
+            }
+            schedule();
+            return request.future;
+        }
+
+        private void schedule() {
+            if (queue.isEmpty() || !scheduled.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                fail(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            List<Request> batch = new ArrayList<>(Math.min(batchSize, 64));
+            Error         error = null;
+            try {
+                while (queue.drainTo(batch, batchSize) > 0) {
+                    Throwable failure = validate(batch);
+                    if (failure instanceof Error && error == null) error = (Error) failure;
+                    batch.clear();
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // 작업 종료 직전에 들어온 요청
+            schedule();
+            // 대기열을 모두 처리한 뒤 Error 는 실행기로 전파
+            if (error != null) throw error;
+        }
+
+        /**
+         * @return 검증기가 던진 예외 (묶음의 future 는 모두 예외로 완료), 없으면 null
+         */
+        private Throwable validate(List<Request> batch) {
+            CharSequence[] values = new CharSequence[batch.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = batch.get(i).value;
+            }
+            try {
+                byte[] reasons = delegate.validateAll(type, values);
+                for (int i = 0; i < values.length; i++) {
+                    batch.get(i).future.complete(Reason.of(reasons[i]));
+                }
+                return null;
+            } catch (Throwable e) {
+                for (Request request : batch) {
+                    request.future.completeExceptionally(e);
+                }
+                return e;
+            }
+        }
+
+        private void fail(Throwable e) {
+            List<Request> pending = new ArrayList<>();
+            queue.drainTo(pending);
+            for (Request request : pending) {
+                request.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private final IValidator delegate;
+        private Executor         executor   = ForkJoinPool.commonPool();
+        private boolean          virtualThreads;
+        private int              batchSize  = DEFAULT_BATCH_SIZE;
+        private int              maxPending = DEFAULT_MAX_PENDING;
+
+        private Builder(IValidator delegate) {
+            this.delegate = Objects.requireNonNull(delegate, "delegate");
+        }
+
+        /**
+         * @param executor 검증을 실행할 실행기 (기본 {@link ForkJoinPool#commonPool()})
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor");
+            this.virtualThreads = false;
+            return this;
+        }
+
+        /**
+         * 작업마다 가상 스레드를 쓰는 실행기 사용 (실행기는 {@link #build()} 에서 생성, JDK 21 미만이면 기존 실행기 유지)
+         */
+        public Builder virtualThreads() {
+            this.virtualThreads = true;
+            return this;
+        }
+
+        /**
+         * @param batchSize 한 번에 묶어 처리할 최대 요청 수
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize < 1) throw new IllegalArgumentException(String.format("Batch size must be positive: %d", batchSize));
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param maxPending 종류별 최대 대기 요청 수 (넘으면 거절)
+         */
+        public Builder maxPending(int maxPending) {
+            if (maxPending < 1) throw new IllegalArgumentException(String.format("Max pending must be positive: %d", maxPending));
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        public AsyncValidator build() {
+            return new AsyncValidator(this);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.tioh.validation;
+
+/**
+ * 사업자번호, 주민등록번호 일괄 검증용 열 우선(column-major) 검증번호 계산
+ * <p>
+ * 구분자를 뺀 숫자가 정확한 길이인 입력만 {@link #LANES} 개씩 모아 자리별 숫자 행렬({@code digits[자리 * LANES + 입력]})로 옮긴 뒤
+ * 자리마다 모든 입력의 가중합을 한 번에 누적한다. 나머지 입력(길이, 문자, 성별코드 오류)은 파이프라인으로 검증한다.
+ * <p>
+ * 가중합 누적은 JDK 17 이상에서 {@code jdk.incubator.vector} 모듈을 추가하면 multi-release JAR 의
+ * {@link VectorChecksum} 으로, 그 외에는 JIT 자동 벡터화에 맡기는 단순 반복문으로 계산한다.
+ * 시스템 속성 {@code tioh.validation.vector=false} 로 Vector API 사용을 끌 수 있다.
+ */
+final class BatchChecksum {
+
+    static final int LANES = 256;
+
+    private static final int[] BRN_WEIGHTS = {1, 3, 7, 1, 3, 7, 1, 3, 5, 1};
+    private static final int[] RRN_WEIGHTS = {2, 3, 4, 5, 6, 7, 8, 9, 2, 3, 4, 5};
+
+    static final boolean VECTOR = Boolean.parseBoolean(System.getProperty("tioh.validation.vector", "true"))
+            && vectorSupported();
+
+    private BatchChecksum() {
+    }
+
+    static boolean supports(ValidationType type) {
+        return type == ValidationType.BUSINESS_REGISTRATION_NUMBER || type == ValidationType.RESIDENT_REGISTRATION_NUMBER;
+    }
+
+    static void validate(ValidationType type, CharSequence[] values, int from, int to, byte[] result) {
+        validate(type, values, from, to, result, VECTOR);
+    }
+
+    /**
+     * @param type   사업자번호 또는 주민등록번호
+     * @param vector Vector API 사용 여부 (지원하지 않으면 무시)
+     */
+    static void validate(ValidationType type, CharSequence[] values, int from, int to, byte[] result, boolean vector) {
+        boolean  brn      = type == ValidationType.BUSINESS_REGISTRATION_NUMBER;
+        int      length   = brn ? 10 : 13;
+        Pipeline pipeline = type.pipeline();
+        int[]    digits   = new int[length * LANES];
+        int[]    sums     = new int[LANES];
+        int[]    index    = new int[LANES];
+        int      lanes    = 0;
+        for (int i = from; i < to; i++) {
+            CharSequence value = values[i];
+            if (gather(value, length, digits, lanes) && (brn || isGenderCode(digits[6 * LANES + lanes]))) {
+                index[lanes++] = i;
+                if (lanes < LANES && i + 1 < to) continue;
+            } else {
+                result[i] = pipeline.check(value).code();
+                if (i + 1 < to || lanes == 0) continue;
+            }
+            if (brn) {
+                businessRegistrationNumber(digits, lanes, sums, index, result, vector);
+            } else {
+                residentRegistrationNumber(digits, lanes, sums, index, result, vector);
+            }
+            lanes = 0;
+        }
+    }
+
+    /**
+     * 구분자를 건너뛰고 숫자를 {@code lane} 열에 옮긴다.
+     *
+     * @return 숫자로만 정확히 {@code length} 자리이면 true
+     */
+    private static boolean gather(CharSequence value, int length, int[] digits, int lane) {
+        if (value == null) return false;
+        int count = 0;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c == '-' || c == ' ') continue;
+            if (c < '0' || c > '9' || count == length) return false;
+            digits[count++ * LANES + lane] = c - '0';
+        }
+        return count == length;
+    }
+
+    private static boolean isGenderCode(int digit) {
+        return digit >= 1 && digit <= 4;
+    }
+
+    /**
+     * 자리별 변환값의 합과 가중합은 10 으로 나눈 나머지와 0 여부가 같다. (9번째 자리 올림수 = 숫자 / 2)
+     */
+    private static void businessRegistrationNumber(int[] digits, int lanes, int[] sums, int[] index, byte[] result, boolean vector) {
+        weightedSum(digits, lanes, BRN_WEIGHTS, sums, vector);
+        int carry = 8 * LANES;
+        for (int lane = 0; lane < lanes; lane++) {
+            int sum = sums[lane] + (digits[carry + lane] >> 1);
+            result[index[lane]] = (sum % 10 == 0 && sum != 0 ? Reason.VALID : Reason.CHECKSUM).code();
+        }
+    }
+
+    private static void residentRegistrationNumber(int[] digits, int lanes, int[] sums, int[] index, byte[] result, boolean vector) {
+        weightedSum(digits, lanes, RRN_WEIGHTS, sums, vector);
+        int check = 12 * LANES;
+        for (int lane = 0; lane < lanes; lane++) {
+            result[index[lane]] = (11 - sums[lane] % 11 == digits[check + lane] ? Reason.VALID : Reason.CHECKSUM).code();
+        }
+    }
+
+    private static void weightedSum(int[] digits, int lanes, int[] weights, int[] sums, boolean vector) {
+        if (vector && VECTOR) {
+            VectorChecksum.weightedSum(digits, LANES, lanes, weights, sums);
+        } else {
+            scalarSum(digits, LANES, lanes, weights, sums);
+        }
+    }
+
+    /**
+     * {@code sums[lane] = Σ weights[idx] * digits[idx * stride + lane]} (JIT 자동 벡터화 대상)
+     */
+    static void scalarSum(int[] digits, int stride, int lanes, int[] weights, int[] sums) {
+        for (int lane = 0; lane < lanes; lane++) {
+            sums[lane] = 0;
+        }
+        for (int idx = 0; idx < weights.length; idx++) {
+            int weight = weights[idx];
+            int row    = idx * stride;
+            for (int lane = 0; lane < lanes; lane++) {
+                sums[lane] += weight * digits[row + lane];
+            }
+        }
+    }
+
+    private static boolean vectorSupported() {
+        try {
+            return VectorChecksum.isSupported();
+        } catch (LinkageError e) {
+            // jdk.incubator.vector 모듈 없이 실행
+            return false;
+        }
+    }
+}
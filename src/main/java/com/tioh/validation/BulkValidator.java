@@ -0,0 +1,107 @@
+package com.tioh.validation;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/**
+ * 일괄 검증
+ * <p>
+ * 파이프라인을 한 번만 조회하고 예외 없이 결과코드({@link Reason#code()})를 배열에 채운다.
+ * 사업자번호, 주민등록번호는 {@link BatchChecksum} 으로 여러 건의 검증번호를 한꺼번에 계산한다.
+ */
+final class BulkValidator {
+
+    private static final ValidationLogger logger = ValidationLogger.of(BulkValidator.class);
+
+    static final int THRESHOLD = 4096;
+
+    private BulkValidator() {
+    }
+
+    static byte[] validate(ValidationType type, CharSequence[] values) {
+        byte[] result = new byte[values.length];
+        validate(type, values, 0, values.length, result);
+        return result;
+    }
+
+    static byte[] validate(ValidationType type, List<? extends CharSequence> values) {
+        logger.debug("Validate {} {} values", type, values.size());
+
+        if (BatchChecksum.supports(type)) return validate(type, values.toArray(new CharSequence[0]));
+
+        Pipeline pipeline = type.pipeline();
+        byte[]   result   = new byte[values.size()];
+        if (values instanceof RandomAccess) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = pipeline.check(values.get(i)).code();
+            }
+        } else {
+            Iterator<? extends CharSequence> iterator = values.iterator();
+            for (int i = 0; i < result.length; i++) {
+                result[i] = pipeline.check(iterator.next()).code();
+            }
+        }
+        return result;
+    }
+
+    static byte[] validate(ValidationType type, List<? extends CharSequence> values, ForkJoinPool pool) {
+        if (values.size() <= THRESHOLD) return validate(type, values);
+        return validate(type, values.toArray(new CharSequence[0]), pool);
+    }
+
+    static byte[] validate(ValidationType type, CharSequence[] values, ForkJoinPool pool) {
+        logger.debug("Validate {} {} values in parallel", type, values.length);
+
+        byte[] result = new byte[values.length];
+        pool.invoke(new Task(type, values, 0, values.length, result));
+        return result;
+    }
+
+    static Stream<Reason> validate(ValidationType type, Stream<? extends CharSequence> values) {
+        Pipeline pipeline = type.pipeline();
+        return values.map(pipeline::check);
+    }
+
+    private static void validate(ValidationType type, CharSequence[] values, int from, int to, byte[] result) {
+        if (BatchChecksum.supports(type)) {
+            BatchChecksum.validate(type, values, from, to, result);
+            return;
+        }
+        Pipeline pipeline = type.pipeline();
+        for (int i = from; i < to; i++) {
+            result[i] = pipeline.check(values[i]).code();
+        }
+    }
+
+    private static class Task extends RecursiveAction {
+
+        private final ValidationType type;
+        private final CharSequence[] values;
+        private final int            from;
+        private final int            to;
+        private final byte[]         result;
+
+        Task(ValidationType type, CharSequence[] values, int from, int to, byte[] result) {
+            this.type = type;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                validate(type, values, from, to, result);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Task(type, values, from, middle, result),
+                      new Task(type, values, middle, to, result));
+        }
+    }
+}
@@ -1,63 +1,118 @@
 package com.tioh.validation;
 
 import com.tioh.validation.exceptions.BusinessRegistrationNumberFormatException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.util.function.Function;
-import java.util.stream.IntStream;
+import java.util.function.IntPredicate;
 
 class BusinessRegistrationNumber extends IValidatorRegistrationNumber {
 
-    private Logger logger = LoggerFactory.getLogger(BusinessRegistrationNumber.class);
-    Function<String, Boolean> lengthState = (str) -> str.length() == 10;
+    private static final int[][] TRANSFORM_TABLE = transformTable();
+
+    private static final ValidationLogger logger = ValidationLogger.of(BusinessRegistrationNumber.class);
+    IntPredicate lengthState = (length) -> length == 10;
     private BusinessRegistrationNumber() {
         super();
         setName("Business registration number");
+        this.pipeline = Pipeline.builder()
+                .stage(ctx -> length(ctx, lengthState))
+                .stage(this::checksum)
+                .build();
     }
 
     private static class Singleton {
         private static final BusinessRegistrationNumber instance = new BusinessRegistrationNumber();
     }
 
-    static synchronized BusinessRegistrationNumber getInstance() {
+    static BusinessRegistrationNumber getInstance() {
         return Singleton.instance;
     }
 
     @Override
-    boolean isValid(String brn) {
+    Reason check(CharSequence brn) {
 
         logger.debug("Validate {}: {}", name, brn);
 
-        return checkEmpty()
-                .andThen(cleanNumber())
-                .andThen(checkLength(lengthState))
-                .andThen(validate())
-                .apply(brn);
+        return pipeline.check(brn);
+    }
+
+    @Override
+    IllegalArgumentException formatException() {
+        return new BusinessRegistrationNumberFormatException();
     }
 
     Function<String, Boolean> validate() {
         return ctx -> {
-            try {
-                Integer.parseInt(ctx);
-                int sum = IntStream.range(0, ctx.length())
-                        .map(i -> getNumberTransform(i, ctx.charAt(i)))
-                        .sum();
-
-                int result = sum + getInt(ctx.charAt(8)) * 5 / 10;
-
-                if (!(result % 10 == 0 && result != 0)) throw new BusinessRegistrationNumberFormatException();
-                return true;
-            } catch (NumberFormatException e) {
-                logger.debug("Business registration number contains not a number: {}", ctx);
-                throw e;
-            }
+            require(checksum(ctx), ctx);
+            return true;
         };
     }
 
+    Reason checksum(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        if (!ctx.isDigits()) {
+            logger.debug("Business registration number contains not a number: {}", ctx);
+            return Reason.NOT_NUMERIC;
+        }
+        if (ctx.length() != 10) return Reason.SIZE;
+
+        int[][] table = TRANSFORM_TABLE;
+        int result = table[0][ctx.digit(0)]
+                + table[1][ctx.digit(1)]
+                + table[2][ctx.digit(2)]
+                + table[3][ctx.digit(3)]
+                + table[4][ctx.digit(4)]
+                + table[5][ctx.digit(5)]
+                + table[6][ctx.digit(6)]
+                + table[7][ctx.digit(7)]
+                + table[8][ctx.digit(8)]
+                + table[9][ctx.digit(9)];
+
+        return result % 10 == 0 && result != 0 ? Reason.VALID : ctx.reject(Reason.CHECKSUM, 9);
+    }
+
+    /**
+     * 앞 9자리로 검증번호 계산
+     *
+     * @param prefix 사업자번호 앞 9자리
+     * @return 검증번호, 유효한 사업자번호를 만들 수 없으면 -1
+     */
+    static int checkDigit(int prefix) {
+        if (prefix < 0 || prefix > 999_999_999) return -1;
+        int sum = 0;
+        for (int idx = 8, rest = prefix; idx >= 0; idx--, rest /= 10) {
+            sum += TRANSFORM_TABLE[idx][rest % 10];
+        }
+        return sum == 0 ? -1 : (10 - sum % 10) % 10;
+    }
+
+    /**
+     * @param idx 자리 (0 ~ 9)
+     * @param c   문자
+     * @return 자리별 변환값 (합이 10의 배수이면 유효), 숫자가 아니면 -1
+     */
+    static int transform(int idx, char c) {
+        return c >= '0' && c <= '9' ? TRANSFORM_TABLE[idx][c - '0'] : -1;
+    }
+
+    /**
+     * 자리별 숫자 변환값 (9번째 자리는 num * 5 / 10 의 올림수까지 포함)
+     */
+    private static int[][] transformTable() {
+        int[][] table = new int[10][10];
+        for (int idx = 0; idx < 10; idx++) {
+            for (int num = 0; num < 10; num++) {
+                table[idx][num] = getNumberTransform(idx, num) + (idx == 8 ? num * 5 / 10 : 0);
+            }
+        }
+        return table;
+    }
+
     int getNumberTransform(int idx, char c) {
+        return getNumberTransform(idx, getInt(c));
+    }
 
-        int num = getInt(c);
+    static int getNumberTransform(int idx, int num) {
         switch (idx) {
             case 1:
             case 4:
@@ -75,4 +130,4 @@ class BusinessRegistrationNumber extends IValidatorRegistrationNumber {
                 return num;
         }
     }
-}
\ No newline at end of file
+}
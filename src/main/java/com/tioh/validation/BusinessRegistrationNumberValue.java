@@ -0,0 +1,95 @@
+package com.tioh.validation;
+
+import java.util.Optional;
+
+/**
+ * 검증된 사업자번호 (int 하나)
+ * <p>
+ * 검증번호(마지막 자리)는 앞 9자리로 다시 계산할 수 있으므로 앞 9자리만 보관한다.
+ */
+public final class BusinessRegistrationNumberValue {
+
+    private final int prefix;
+
+    private BusinessRegistrationNumberValue(int prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * 검증 후 변환
+     *
+     * @param brn 사업자번호
+     * @return 사업자번호
+     * @throws IllegalArgumentException 검증 실패 시 {@link Validator#businessRegistrationNumber(String)} 와 같은 예외
+     */
+    public static BusinessRegistrationNumberValue parse(CharSequence brn) {
+        return new BusinessRegistrationNumberValue(encode(ValidationType.BUSINESS_REGISTRATION_NUMBER.normalize(brn)));
+    }
+
+    /**
+     * 검증 후 변환 (예외 없음)
+     *
+     * @param brn 사업자번호
+     * @return 사업자번호, 유효하지 않으면 empty
+     */
+    public static Optional<BusinessRegistrationNumberValue> tryParse(CharSequence brn) {
+        NumberBuffer ctx = ValidationType.BUSINESS_REGISTRATION_NUMBER.tryNormalize(brn);
+        return ctx == null ? Optional.empty() : Optional.of(new BusinessRegistrationNumberValue(encode(ctx)));
+    }
+
+    /**
+     * @param packed {@link #pack()} 값
+     * @return 사업자번호
+     */
+    public static BusinessRegistrationNumberValue unpack(int packed) {
+        if (BusinessRegistrationNumber.checkDigit(packed) < 0) {
+            throw new IllegalArgumentException(String.format("Not a packed business registration number: %d", packed));
+        }
+        return new BusinessRegistrationNumberValue(packed);
+    }
+
+    static int encode(NumberBuffer ctx) {
+        int prefix = 0;
+        for (int i = 0; i < 9; i++) {
+            prefix = prefix * 10 + ctx.digit(i);
+        }
+        return prefix;
+    }
+
+    /**
+     * @return 앞 9자리 값
+     */
+    public int pack() {
+        return prefix;
+    }
+
+    /**
+     * @return 하이픈 없는 10자리
+     */
+    public String digits() {
+        return String.format("%09d%d", prefix, BusinessRegistrationNumber.checkDigit(prefix));
+    }
+
+    /**
+     * @return 000-00-00000
+     */
+    public String format() {
+        String digits = digits();
+        return digits.substring(0, 3) + '-' + digits.substring(3, 5) + '-' + digits.substring(5);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof BusinessRegistrationNumberValue && prefix == ((BusinessRegistrationNumberValue) o).prefix;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(prefix);
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -0,0 +1,262 @@
+package com.tioh.validation;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * 정규화된 입력별 결과코드를 캐시하는 {@link IValidator}
+ * <p>
+ * 구분자를 제거한 입력을 키로 삼아 종류별 {@link ResultCache} 에 예외 대신 {@link ValidationResult} 만 저장한다.
+ * 숫자로만 된 17자리 이하 입력은 길이와 값을 합친 {@code Long} 키를, 그 외는 문자열 키를 사용한다.
+ * 위임 대상의 결과가 정규화된 입력에만 의존한다고 가정한다.
+ * 바이트 입력 검증과 병렬 일괄 검증은 캐시를 거치지 않고 위임 대상에 그대로 넘긴다.
+ *
+ * <pre>
+ * IValidator validator = CachingValidator.builder(Validator.getInstance())
+ *         .capacity(ValidationType.BUSINESS_REGISTRATION_NUMBER, 10_000)
+ *         .capacity(ValidationType.RESIDENT_REGISTRATION_NUMBER, 0)
+ *         .build();
+ * </pre>
+ */
+public final class CachingValidator implements IValidator {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final int DIGIT_KEY_LENGTH = 17;
+
+    private final IValidator    delegate;
+    private final ResultCache[] caches;
+
+    private CachingValidator(IValidator delegate, ResultCache[] caches) {
+        this.delegate = delegate;
+        this.caches = caches;
+    }
+
+    public static Builder builder(IValidator delegate) {
+        return new Builder(delegate);
+    }
+
+    @Override
+    public boolean businessRegistrationNumber(String brn) {
+        return validate(ValidationType.BUSINESS_REGISTRATION_NUMBER, brn);
+    }
+
+    @Override
+    public boolean residentRegistrationNumber(String rrn) {
+        return validate(ValidationType.RESIDENT_REGISTRATION_NUMBER, rrn);
+    }
+
+    @Override
+    public boolean vehicleRegistrationNumber(String vnr) {
+        return validate(ValidationType.VEHICLE_REGISTRATION_NUMBER, vnr);
+    }
+
+    @Override
+    public boolean vehicleIdentificationNumber(String vin) {
+        return validate(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, vin);
+    }
+
+    @Override
+    public boolean mobilePhoneNumber(String num) {
+        return validate(ValidationType.MOBILE_PHONE_NUMBER, num);
+    }
+
+    @Override
+    public Reason checkBusinessRegistrationNumber(String brn) {
+        return check(ValidationType.BUSINESS_REGISTRATION_NUMBER, brn);
+    }
+
+    @Override
+    public Reason checkResidentRegistrationNumber(String rrn) {
+        return check(ValidationType.RESIDENT_REGISTRATION_NUMBER, rrn);
+    }
+
+    @Override
+    public Reason checkVehicleRegistrationNumber(String vnr) {
+        return check(ValidationType.VEHICLE_REGISTRATION_NUMBER, vnr);
+    }
+
+    @Override
+    public Reason checkVehicleIdentificationNumber(String vin) {
+        return check(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, vin);
+    }
+
+    @Override
+    public Reason checkMobilePhoneNumber(String num) {
+        return check(ValidationType.MOBILE_PHONE_NUMBER, num);
+    }
+
+    @Override
+    public ValidationResult validate(ValidationType type, CharSequence value) {
+        ResultCache cache = caches[type.ordinal()];
+        Object key = cache == null || StringUtils.isEmpty(value) ? null : key(value);
+        if (key == null) return delegate.validate(type, value);
+        ValidationResult result = cache.get(key);
+        if (result == null) {
+            result = delegate.validate(type, value);
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public Reason check(ValidationType type, byte[] bytes, int offset, int length) {
+        return delegate.check(type, bytes, offset, length);
+    }
+
+    @Override
+    public Reason check(ValidationType type, ByteBuffer buffer) {
+        return delegate.check(type, buffer);
+    }
+
+    @Override
+    public byte[] validateAll(ValidationType type, List<? extends CharSequence> values) {
+        byte[] result = new byte[values.size()];
+        int i = 0;
+        for (CharSequence value : values) {
+            result[i++] = check(type, value).code();
+        }
+        return result;
+    }
+
+    @Override
+    public byte[] validateAll(ValidationType type, CharSequence[] values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = check(type, values[i]).code();
+        }
+        return result;
+    }
+
+    @Override
+    public byte[] validateAll(ValidationType type, List<? extends CharSequence> values, ForkJoinPool pool) {
+        return delegate.validateAll(type, values, pool);
+    }
+
+    @Override
+    public byte[] validateAll(ValidationType type, CharSequence[] values, ForkJoinPool pool) {
+        return delegate.validateAll(type, values, pool);
+    }
+
+    @Override
+    public Stream<Reason> validateAll(ValidationType type, Stream<? extends CharSequence> values) {
+        return values.map(value -> check(type, value));
+    }
+
+    /**
+     * @param type 검증 종류
+     * @return 캐시 적중 수
+     */
+    public long getHits(ValidationType type) {
+        ResultCache cache = caches[type.ordinal()];
+        return cache == null ? 0 : cache.hits();
+    }
+
+    /**
+     * @param type 검증 종류
+     * @return 캐시 미적중 수
+     */
+    public long getMisses(ValidationType type) {
+        ResultCache cache = caches[type.ordinal()];
+        return cache == null ? 0 : cache.misses();
+    }
+
+    /**
+     * @param type 검증 종류
+     * @return 캐시된 항목 수
+     */
+    public long size(ValidationType type) {
+        ResultCache cache = caches[type.ordinal()];
+        return cache == null ? 0 : cache.size();
+    }
+
+    public void clear() {
+        for (ResultCache cache : caches) {
+            if (cache != null) cache.clear();
+        }
+    }
+
+    private boolean validate(ValidationType type, String value) {
+        Reason reason = check(type, value);
+        if (!reason.isValid()) throw type.validator().exception(reason, value);
+        return true;
+    }
+
+    private Reason check(ValidationType type, CharSequence value) {
+        return validate(type, value).getReason();
+    }
+
+    /**
+     * @param value 입력
+     * @return 정규화된 입력 키 (검증 가능한 최대 길이를 넘으면 null)
+     */
+    static Object key(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.of(value);
+        int length = ctx.length();
+        if (length > NumberBuffer.CAPACITY) return null;
+        if (!ctx.isDigits() || length > DIGIT_KEY_LENGTH) return ctx.toString();
+        long key = 0;
+        for (int i = 0; i < length; i++) {
+            key = key * 10 + ctx.digit(i);
+        }
+        return key << 5 | length;
+    }
+
+    public static final class Builder {
+
+        private final IValidator                   delegate;
+        private final Map<ValidationType, Integer> capacities  = new EnumMap<>(ValidationType.class);
+        private int                                concurrency = Runtime.getRuntime().availableProcessors() * 4;
+
+        private Builder(IValidator delegate) {
+            this.delegate = Objects.requireNonNull(delegate, "delegate");
+            for (ValidationType type : ValidationType.values()) {
+                capacities.put(type, DEFAULT_CAPACITY);
+            }
+        }
+
+        /**
+         * @param capacity 모든 종류의 최대 항목 수 (0 이면 캐시 안 함)
+         */
+        public Builder capacity(int capacity) {
+            for (ValidationType type : ValidationType.values()) {
+                capacity(type, capacity);
+            }
+            return this;
+        }
+
+        /**
+         * @param type 검증 종류
+         * @param capacity 최대 항목 수 (0 이면 캐시 안 함)
+         */
+        public Builder capacity(ValidationType type, int capacity) {
+            if (capacity < 0) throw new IllegalArgumentException(String.format("Capacity must not be negative: %d", capacity));
+            capacities.put(Objects.requireNonNull(type, "type"), capacity);
+            return this;
+        }
+
+        /**
+         * @param concurrency 종류별 세그먼트 수 (최대 65536, 넘으면 65536)
+         */
+        public Builder concurrency(int concurrency) {
+            if (concurrency < 1) throw new IllegalArgumentException(String.format("Concurrency must be positive: %d", concurrency));
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public CachingValidator build() {
+            ResultCache[] caches = new ResultCache[ValidationType.values().length];
+            capacities.forEach((type, capacity) -> {
+                if (capacity > 0) caches[type.ordinal()] = new ResultCache(capacity, concurrency);
+            });
+            return new CachingValidator(delegate, caches);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.tioh.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 사업자번호, 주민등록번호, 차대번호 오타 교정 후보
+ * <p>
+ * 한 자리 오타와 인접한 두 자리 자리바꿈만 고친다. 입력의 자리별 가중값과 그 합을 한 번 계산한 뒤,
+ * 후보마다 바뀐 자리의 가중값만 빼고 더해서 검증번호를 확인하므로 후보를 다시 검증하지 않는다.
+ * 허용되지 않는 문자가 한 자리뿐이면 그 자리를 바꾸는 후보만 찾는다.
+ *
+ * <pre>
+ * Corrections.suggest(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-81-69428");  // [105-81-69429, ...]
+ * </pre>
+ */
+public final class Corrections {
+
+    private static final String DIGITS   = "0123456789";
+    private static final String VIN      = "0123456789ABCDEFGHJKLMNPRSTUVWXYZ";
+    private static final int    NO_CHECK = -1;
+
+    private Corrections() {
+    }
+
+    /**
+     * @param type  사업자번호, 주민등록번호, 차대번호
+     * @param value 입력
+     * @return 유효한 후보 (입력의 구분자 유지, 한 자리 오타를 자리 순서대로 먼저), 입력이 유효하거나 길이가 다르면 빈 목록
+     */
+    public static List<String> suggest(ValidationType type, CharSequence value) {
+        switch (type) {
+            case BUSINESS_REGISTRATION_NUMBER:
+                return suggest(value, 10, NO_CHECK, DIGITS, BusinessRegistrationNumber::transform,
+                        (sum, c) -> sum % 10 == 0 && sum != 0);
+            case RESIDENT_REGISTRATION_NUMBER:
+                return suggest(value, 13, 12, DIGITS, ResidentRegistrationNumber::weight, ResidentRegistrationNumber::isCheckDigit);
+            case VEHICLE_IDENTIFICATION_NUMBER:
+                return suggest(value, 17, 8, VIN, VehicleIdentificationNumber::weight, VehicleIdentificationNumber::isCheckDigit);
+            default:
+                throw new IllegalArgumentException(String.format("Corrections do not support %s", type));
+        }
+    }
+
+    /**
+     * @param length   길이 (구분자 제외)
+     * @param check    검증번호 자리, 합에만 포함되면 {@link #NO_CHECK}
+     * @param alphabet 후보 문자
+     * @param weight   자리별 가중값 (허용되지 않는 문자이면 -1)
+     * @param checksum 가중값 합과 검증번호 일치 여부
+     */
+    private static List<String> suggest(CharSequence value, int length, int check, String alphabet, Weight weight, Checksum checksum) {
+        if (value == null) return Collections.emptyList();
+        char[] chars   = new char[length];
+        int[]  index   = new int[length];
+        int[]  weights = new int[length];
+        int    count   = 0;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c == '-' || c == ' ') continue;
+            if (count == length) return Collections.emptyList();
+            chars[count] = c;
+            index[count++] = i;
+        }
+        if (count != length) return Collections.emptyList();
+
+        int sum     = 0;
+        int illegal = -1;
+        for (int i = 0; i < length; i++) {
+            weights[i] = weight.apply(i, chars[i]);
+            if (weights[i] >= 0) {
+                sum += weights[i];
+            } else if (illegal < 0) {
+                illegal = i;
+            } else {
+                return Collections.emptyList();
+            }
+        }
+        if (illegal < 0 && checksum.test(sum, check == NO_CHECK ? 0 : chars[check])) return Collections.emptyList();
+
+        List<String> candidates = new ArrayList<>();
+        char checkDigit = check == NO_CHECK ? 0 : chars[check];
+        for (int i = 0; i < length; i++) {
+            if (illegal >= 0 && i != illegal) continue;
+            int rest = sum - Math.max(weights[i], 0);
+            for (int k = 0; k < alphabet.length(); k++) {
+                char c = alphabet.charAt(k);
+                int  w = c == chars[i] ? -1 : weight.apply(i, c);
+                if (w < 0) continue;
+                if (i == check ? checksum.test(rest, c) : checksum.test(rest + w, checkDigit)) {
+                    candidates.add(replace(value, index, i, c, -1, (char) 0));
+                }
+            }
+        }
+        for (int i = 0; i + 1 < length; i++) {
+            if (illegal >= 0 && i != illegal && i + 1 != illegal) continue;
+            char a = chars[i];
+            char b = chars[i + 1];
+            if (a == b) continue;
+            int wa = weight.apply(i + 1, a);
+            int wb = weight.apply(i, b);
+            if (wa < 0 || wb < 0) continue;
+            int  swapped = sum - Math.max(weights[i], 0) - Math.max(weights[i + 1], 0) + wa + wb;
+            char digit   = i == check ? b : i + 1 == check ? a : checkDigit;
+            if (checksum.test(swapped, digit)) candidates.add(replace(value, index, i, b, i + 1, a));
+        }
+        return candidates;
+    }
+
+    private static String replace(CharSequence value, int[] index, int first, char c1, int second, char c2) {
+        StringBuilder builder = new StringBuilder(value);
+        builder.setCharAt(index[first], c1);
+        if (second >= 0) builder.setCharAt(index[second], c2);
+        return builder.toString();
+    }
+
+    @FunctionalInterface
+    private interface Weight {
+        int apply(int idx, char c);
+    }
+
+    @FunctionalInterface
+    private interface Checksum {
+        boolean test(int sum, char check);
+    }
+}
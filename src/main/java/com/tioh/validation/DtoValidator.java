@@ -0,0 +1,29 @@
+package com.tioh.validation;
+
+import java.util.List;
+
+/**
+ * DTO 검증기
+ * <p>
+ * {@code com.tioh.validation.annotations} 의 어노테이션이 붙은 클래스마다 어노테이션 프로세서가
+ * 같은 패키지에 {@code <클래스명>Validator} 구현을 생성한다. 생성된 코드는 리플렉션 없이 필드(또는 getter)를 직접 읽고,
+ * 예외 없이 모든 필드를 한 번에 검증한다.
+ *
+ * <pre>
+ * List&lt;FieldViolation&gt; violations = new SignupRequestValidator().validate(request);
+ * </pre>
+ *
+ * @param <T> DTO 타입
+ */
+public interface DtoValidator<T> {
+
+    /**
+     * @param dto 검증 대상
+     * @return 실패한 필드 목록 (선언 순서), 모두 유효하면 빈 목록
+     */
+    List<FieldViolation> validate(T dto);
+
+    default boolean isValid(T dto) {
+        return validate(dto).isEmpty();
+    }
+}
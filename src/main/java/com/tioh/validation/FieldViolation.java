@@ -0,0 +1,63 @@
+package com.tioh.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DTO 필드 검증 실패 (필드명 + 검증 결과)
+ */
+public final class FieldViolation {
+
+    private final String           field;
+    private final ValidationResult result;
+
+    public FieldViolation(String field, ValidationResult result) {
+        this.field = Objects.requireNonNull(field, "field");
+        this.result = Objects.requireNonNull(result, "result");
+    }
+
+    /**
+     * 생성된 검증기에서 사용 (첫 실패에서만 목록 생성)
+     *
+     * @param violations 지금까지의 실패 목록, 없으면 null
+     * @param field      필드명
+     * @param result     검증 결과
+     * @return 실패 목록
+     */
+    public static List<FieldViolation> add(List<FieldViolation> violations, String field, ValidationResult result) {
+        if (violations == null) violations = new ArrayList<>(4);
+        violations.add(new FieldViolation(field, result));
+        return violations;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    public Reason getReason() {
+        return result.getReason();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FieldViolation)) return false;
+        FieldViolation that = (FieldViolation) o;
+        return field.equals(that.field) && result.equals(that.result);
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + result.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return field + ": " + result;
+    }
+}
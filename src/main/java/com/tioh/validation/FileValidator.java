@@ -0,0 +1,479 @@
+package com.tioh.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구분자로 나뉜 줄 단위 파일 검증
+ * <p>
+ * 파일을 고정 크기 청크로 읽어 줄 경계에서 나누고, 청크마다 작업 스레드에서 지정된 컬럼을 바이트에서 바로 검증한다.
+ * 결과 파일에는 입력 한 줄마다 지정된 컬럼 순서대로 {@link Reason} 이름을 구분자로 이어 쓴다.
+ * 동시에 처리 중인 청크 수가 제한되므로 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ * {@code maxLineLength} 를 넘는 줄은 읽어서 버리고 모든 컬럼을 {@link Reason#SIZE} 로 기록한다.
+ * 따옴표로 감싼 필드(CSV quoting)는 해석하지 않는다.
+ *
+ * <pre>
+ * FileValidator.Summary summary = FileValidator.builder()
+ *         .column(0, ValidationType.BUSINESS_REGISTRATION_NUMBER)
+ *         .column(2, ValidationType.MOBILE_PHONE_NUMBER)
+ *         .skipHeader(true)
+ *         .build()
+ *         .validate(input, output);
+ * </pre>
+ */
+public final class FileValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileValidator.class);
+
+    private static final byte     LF              = '\n';
+    private static final byte     CR              = '\r';
+    private static final int      MAX_LINE_LENGTH = 1 << 30;
+    private static final byte[][] REASONS         = Arrays.stream(Reason.values())
+            .map(reason -> reason.name().getBytes(StandardCharsets.US_ASCII))
+            .toArray(byte[][]::new);
+
+    private final int[]            columns;
+    private final ValidationType[] types;
+    private final byte             delimiter;
+    private final boolean          skipHeader;
+    private final int              threads;
+    private final int              chunkSize;
+    private final int              maxLineLength;
+
+    private FileValidator(Builder builder) {
+        this.columns = builder.columns.keySet().stream().mapToInt(Integer::intValue).toArray();
+        this.types = builder.columns.values().toArray(new ValidationType[0]);
+        this.delimiter = builder.delimiter;
+        this.skipHeader = builder.skipHeader;
+        this.threads = builder.threads;
+        this.chunkSize = builder.chunkSize;
+        this.maxLineLength = builder.maxLineLength;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 파일 검증
+     *
+     * @param input  입력 파일
+     * @param output 결과 파일
+     * @return 컬럼별 결과코드 집계
+     * @throws IOException 파일을 읽거나 쓸 수 없는 경우
+     */
+    public Summary validate(Path input, Path output) throws IOException {
+        logger.info("Validate {} -> {} with {} threads", input, output, threads);
+
+        int                   inFlight  = threads * 2;
+        Pipeline[]            pipelines = Arrays.stream(types).map(ValidationType::pipeline).toArray(Pipeline[]::new);
+        BlockingQueue<byte[]> buffers   = new ArrayBlockingQueue<>(inFlight + 1);
+        Deque<Future<Chunk>>  pending   = new ArrayDeque<>();
+        Summary               summary   = new Summary(columns, types);
+        ExecutorService       executor  = Executors.newFixedThreadPool(threads, new WorkerFactory());
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             OutputStream out = Files.newOutputStream(output)) {
+
+            byte[]  buffer = new byte[chunkSize];
+            int     filled = 0;
+            boolean header = skipHeader;
+            boolean eof    = false;
+
+            while (!eof) {
+                if (filled == buffer.length) {
+                    // 버퍼에는 줄바꿈이 없으므로 버퍼 전체가 아직 끝나지 않은 한 줄
+                    if (filled > maxLineLength) {
+                        filled = skipLine(in, buffer);
+                        eof = filled < 0;
+                        filled = Math.max(filled, 0);
+                        if (header) {
+                            header = false;
+                        } else {
+                            if (pending.size() >= inFlight) write(pending.poll(), out, summary, buffers);
+                            pending.add(CompletableFuture.completedFuture(tooLong()));
+                        }
+                        continue;
+                    }
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(buffer.length * 2L, maxLineLength + 1L));
+                }
+                while (filled < buffer.length) {
+                    int read = in.read(ByteBuffer.wrap(buffer, filled, buffer.length - filled));
+                    if (read < 0) {
+                        eof = true;
+                        break;
+                    }
+                    filled += read;
+                }
+
+                int end = eof ? filled : lastIndexOf(buffer, filled) + 1;
+                if (end == 0) continue;
+
+                byte[] next = buffers.poll();
+                if (next == null || next.length < filled - end) next = new byte[Math.max(chunkSize, filled - end)];
+                System.arraycopy(buffer, end, next, 0, filled - end);
+
+                if (pending.size() >= inFlight) write(pending.poll(), out, summary, buffers);
+                pending.add(executor.submit(new Task(buffer, end, header, pipelines)));
+
+                header = false;
+                buffer = next;
+                filled = filled - end;
+            }
+
+            while (!pending.isEmpty()) write(pending.poll(), out, summary, buffers);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        logger.info("Validated {}: {}", input, summary);
+        return summary;
+    }
+
+    private void write(Future<Chunk> future, OutputStream out, Summary summary, BlockingQueue<byte[]> buffers) throws IOException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("File validation interrupted");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("File validation failed", e.getCause());
+        }
+        out.write(chunk.output, 0, chunk.size);
+        summary.add(chunk);
+        if (chunk.input.length == chunkSize) buffers.offer(chunk.input);
+    }
+
+    /**
+     * 긴 줄의 나머지를 줄바꿈까지 읽어 버리고, 줄바꿈 뒤에 읽은 바이트를 버퍼 앞으로 옮긴다.
+     *
+     * @return 버퍼에 남은 바이트 수, 파일 끝이면 -1
+     */
+    private static int skipLine(FileChannel in, byte[] buffer) throws IOException {
+        while (true) {
+            int read = in.read(ByteBuffer.wrap(buffer));
+            if (read < 0) return -1;
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == LF) {
+                    System.arraycopy(buffer, i + 1, buffer, 0, read - i - 1);
+                    return read - i - 1;
+                }
+            }
+        }
+    }
+
+    private Chunk tooLong() {
+        logger.warn("Line longer than {} bytes is reported as {}", maxLineLength, Reason.SIZE);
+        Chunk chunk = new Chunk(new byte[0], 0, columns.length);
+        chunk.addLine(Reason.SIZE, delimiter);
+        return chunk;
+    }
+
+    private static int lastIndexOf(byte[] bytes, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (bytes[i] == LF) return i;
+        }
+        return -1;
+    }
+
+    private class Task implements Callable<Chunk> {
+
+        private final byte[]     bytes;
+        private final int        length;
+        private final boolean    header;
+        private final Pipeline[] pipelines;
+
+        Task(byte[] bytes, int length, boolean header, Pipeline[] pipelines) {
+            this.bytes = bytes;
+            this.length = length;
+            this.header = header;
+            this.pipelines = pipelines;
+        }
+
+        @Override
+        public Chunk call() {
+            Chunk   chunk = new Chunk(bytes, length, columns.length);
+            boolean skip  = header;
+            int     start = 0;
+            while (start < length) {
+                int end = start;
+                while (end < length && bytes[end] != LF) end++;
+                int next = end + 1;
+                if (end > start && bytes[end - 1] == CR) end--;
+                if (skip) {
+                    skip = false;
+                } else if (end - start > maxLineLength) {
+                    chunk.addLine(Reason.SIZE, delimiter);
+                } else {
+                    validate(start, end, chunk);
+                }
+                start = next;
+            }
+            return chunk;
+        }
+
+        private void validate(int start, int end, Chunk chunk) {
+            int column = 0;
+            int index  = 0;
+            int field  = start;
+            for (int i = start; i <= end && index < columns.length; i++) {
+                if (i == end || bytes[i] == delimiter) {
+                    if (column == columns[index]) {
+                        chunk.add(index, pipelines[index].check(bytes, field, i - field), delimiter);
+                        index++;
+                    }
+                    column++;
+                    field = i + 1;
+                }
+            }
+            for (; index < columns.length; index++) {
+                chunk.add(index, Reason.EMPTY, delimiter);
+            }
+            chunk.newLine();
+        }
+    }
+
+    private static class Chunk {
+
+        private final byte[]   input;
+        private final long[][] counts;
+        private byte[]         output;
+        private int            size;
+        private boolean        first = true;
+        private long           lines;
+
+        Chunk(byte[] input, int length, int columns) {
+            this.input = input;
+            this.counts = new long[columns][Reason.values().length];
+            this.output = new byte[Math.max(64, length)];
+        }
+
+        void add(int index, Reason reason, byte delimiter) {
+            counts[index][reason.ordinal()]++;
+            if (!first) write(delimiter);
+            byte[] name = REASONS[reason.ordinal()];
+            ensure(name.length);
+            System.arraycopy(name, 0, output, size, name.length);
+            size += name.length;
+            first = false;
+        }
+
+        /**
+         * 모든 컬럼이 같은 결과코드인 한 줄
+         */
+        void addLine(Reason reason, byte delimiter) {
+            for (int index = 0; index < counts.length; index++) {
+                add(index, reason, delimiter);
+            }
+            newLine();
+        }
+
+        void newLine() {
+            write(LF);
+            first = true;
+            lines++;
+        }
+
+        private void write(byte b) {
+            ensure(1);
+            output[size++] = b;
+        }
+
+        private void ensure(int length) {
+            if (size + length > output.length) output = Arrays.copyOf(output, Math.max(output.length * 2, size + length));
+        }
+    }
+
+    /**
+     * 컬럼별 결과코드 집계
+     */
+    public static final class Summary {
+
+        private final int[]            columns;
+        private final ValidationType[] types;
+        private final long[][]         counts;
+        private long                   lines;
+
+        private Summary(int[] columns, ValidationType[] types) {
+            this.columns = columns;
+            this.types = types;
+            this.counts = new long[columns.length][Reason.values().length];
+        }
+
+        private void add(Chunk chunk) {
+            lines += chunk.lines;
+            for (int i = 0; i < counts.length; i++) {
+                for (int j = 0; j < counts[i].length; j++) {
+                    counts[i][j] += chunk.counts[i][j];
+                }
+            }
+        }
+
+        /**
+         * @return 검증한 줄 수 (헤더 제외)
+         */
+        public long getLines() {
+            return lines;
+        }
+
+        /**
+         * @param column 컬럼 위치 (0 부터)
+         * @param reason 결과코드
+         * @return 해당 컬럼에서 결과코드가 나온 횟수
+         */
+        public long getCount(int column, Reason reason) {
+            return counts[index(column)][reason.ordinal()];
+        }
+
+        /**
+         * @param column 컬럼 위치 (0 부터)
+         * @return 해당 컬럼의 유효한 값 수
+         */
+        public long getValid(int column) {
+            return getCount(column, Reason.VALID);
+        }
+
+        /**
+         * @param column 컬럼 위치 (0 부터)
+         * @return 해당 컬럼의 유효하지 않은 값 수
+         */
+        public long getInvalid(int column) {
+            return lines - getValid(column);
+        }
+
+        private int index(int column) {
+            int index = Arrays.binarySearch(columns, column);
+            if (index < 0) throw new IllegalArgumentException(String.format("Column %d is not validated.", column));
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder().append("lines=").append(lines);
+            for (int i = 0; i < columns.length; i++) {
+                builder.append(", ").append(columns[i]).append(':').append(types[i]).append('{');
+                String separator = "";
+                for (Reason reason : Reason.values()) {
+                    long count = counts[i][reason.ordinal()];
+                    if (count == 0) continue;
+                    builder.append(separator).append(reason).append('=').append(count);
+                    separator = ", ";
+                }
+                builder.append('}');
+            }
+            return builder.toString();
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<Integer, ValidationType> columns       = new TreeMap<>();
+        private byte                               delimiter     = ',';
+        private boolean                            skipHeader    = false;
+        private int                                threads       = Runtime.getRuntime().availableProcessors();
+        private int                                chunkSize     = 1 << 22;
+        private int                                maxLineLength = 1 << 20;
+
+        private Builder() {
+        }
+
+        /**
+         * @param column 컬럼 위치 (0 부터)
+         * @param type   검증 대상 종류
+         */
+        public Builder column(int column, ValidationType type) {
+            if (column < 0) throw new IllegalArgumentException("column must not be negative");
+            columns.put(column, type);
+            return this;
+        }
+
+        /**
+         * @param delimiter ASCII 구분자 (기본값 ',')
+         */
+        public Builder delimiter(char delimiter) {
+            if (delimiter >= 0x80 || delimiter == LF || delimiter == CR) throw new IllegalArgumentException("delimiter must be an ASCII character other than a line break");
+            this.delimiter = (byte) delimiter;
+            return this;
+        }
+
+        /**
+         * @param skipHeader 첫 줄을 건너뛸지 여부
+         */
+        public Builder skipHeader(boolean skipHeader) {
+            this.skipHeader = skipHeader;
+            return this;
+        }
+
+        /**
+         * @param threads 작업 스레드 수 (기본값 CPU 수)
+         */
+        public Builder threads(int threads) {
+            if (threads < 1) throw new IllegalArgumentException("threads must be positive");
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * @param chunkSize 한 번에 읽는 바이트 수 (기본값 4MB)
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be positive");
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * @param maxLineLength 줄바꿈을 제외한 한 줄의 최대 바이트 수 (기본값 1MB, 넘으면 모든 컬럼이 SIZE)
+         */
+        public Builder maxLineLength(int maxLineLength) {
+            if (maxLineLength < 1 || maxLineLength > MAX_LINE_LENGTH) {
+                throw new IllegalArgumentException(String.format("maxLineLength must be between 1 and %d", MAX_LINE_LENGTH));
+            }
+            this.maxLineLength = maxLineLength;
+            return this;
+        }
+
+        public FileValidator build() {
+            if (columns.isEmpty()) throw new IllegalStateException("At least one column must be configured.");
+            return new FileValidator(this);
+        }
+    }
+
+    private static class WorkerFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "file-validator-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.tioh.validation;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
 public interface IValidator {
 
     boolean businessRegistrationNumber(String brn);
@@ -11,4 +16,30 @@ public interface IValidator {
     boolean vehicleIdentificationNumber(String vin);
 
     boolean mobilePhoneNumber(String num);
+
+    Reason checkBusinessRegistrationNumber(String brn);
+
+    Reason checkResidentRegistrationNumber(String rrn);
+
+    Reason checkVehicleRegistrationNumber(String vnr);
+
+    Reason checkVehicleIdentificationNumber(String vin);
+
+    Reason checkMobilePhoneNumber(String num);
+
+    ValidationResult validate(ValidationType type, CharSequence value);
+
+    Reason check(ValidationType type, byte[] bytes, int offset, int length);
+
+    Reason check(ValidationType type, ByteBuffer buffer);
+
+    byte[] validateAll(ValidationType type, List<? extends CharSequence> values);
+
+    byte[] validateAll(ValidationType type, CharSequence[] values);
+
+    byte[] validateAll(ValidationType type, List<? extends CharSequence> values, ForkJoinPool pool);
+
+    byte[] validateAll(ValidationType type, CharSequence[] values, ForkJoinPool pool);
+
+    Stream<Reason> validateAll(ValidationType type, Stream<? extends CharSequence> values);
 }
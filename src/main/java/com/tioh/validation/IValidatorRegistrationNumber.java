@@ -1,39 +1,87 @@
 package com.tioh.validation;
 
+import com.tioh.validation.exceptions.AreaSignException;
 import com.tioh.validation.exceptions.EmptyStringException;
+import com.tioh.validation.exceptions.GenderCodeException;
+import com.tioh.validation.exceptions.IllegalCharacterException;
 import com.tioh.validation.exceptions.SizeLimitException;
+import com.tioh.validation.exceptions.UsageSignException;
 import lombok.Setter;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 abstract class IValidatorRegistrationNumber {
 
     @Setter
     String name;
-    abstract boolean isValid(String vrn);
+    Pipeline pipeline;
+
+    abstract Reason check(CharSequence value);
+
+    abstract IllegalArgumentException formatException();
+
+    boolean isValid(CharSequence value) {
+        Reason reason = check(value);
+        if (!reason.isValid()) throw exception(reason, value);
+        return true;
+    }
 
     Function<String, String> checkEmpty() {
-        return ctx -> {
-            if (StringUtils.isEmpty(ctx)) throw new EmptyStringException(String.format("%s is empty.", name));
-            return ctx;
-        };
+        return ctx -> require(empty(ctx), ctx);
     }
 
     Function<String, String> cleanNumber() {
-        return ctx -> ctx.replaceAll("-", "").replaceAll(" ", "");
+        return this::clean;
+    }
+
+    Function<String, String> checkLength(IntPredicate predicate) {
+        return ctx -> require(length(ctx, predicate), ctx);
+    }
+
+    Reason empty(CharSequence ctx) {
+        return StringUtils.isEmpty(ctx) ? Reason.EMPTY : Reason.VALID;
+    }
+
+    String clean(String ctx) {
+        return StringUtils.replaceChars(ctx, "- ", "");
+    }
+
+    Reason length(CharSequence ctx, IntPredicate predicate) {
+        return predicate.test(ctx.length()) ? Reason.VALID : Reason.SIZE;
+    }
+
+    String require(Reason reason, String ctx) {
+        if (!reason.isValid()) throw exception(reason, ctx);
+        return ctx;
     }
 
-    Function<String, String> checkLength(Function<String, Boolean> predicate) {
-        return ctx -> {
-            if (!predicate.apply(ctx)) {
-                throw new SizeLimitException(String.format("Wrong length for %s (%s), length: %d", name, ctx, ctx.length()));
-            }
-            return ctx;
-        };
+    IllegalArgumentException exception(Reason reason, CharSequence ctx) {
+        switch (reason) {
+            case EMPTY:
+                return new EmptyStringException(String.format("%s is empty.", name));
+            case SIZE:
+                String number = clean(ctx.toString());
+                return new SizeLimitException(String.format("Wrong length for %s (%s), length: %d", name, number, number.length()));
+            case NOT_NUMERIC:
+                return new NumberFormatException(String.format("For input string: \"%s\"", ctx));
+            case GENDER_CODE:
+                return new GenderCodeException();
+            case AREA_SIGN:
+                return new AreaSignException();
+            case USAGE_SIGN:
+                return new UsageSignException();
+            case ILLEGAL_CHAR:
+                return new IllegalCharacterException();
+            default:
+                return formatException();
+        }
     }
 
     int getInt(char c) {
-        return Integer.parseInt(Character.toString(c));
+        int digit = c - '0';
+        if (digit < 0 || digit > 9) throw new NumberFormatException(String.format("For input string: \"%s\"", c));
+        return digit;
     }
 }
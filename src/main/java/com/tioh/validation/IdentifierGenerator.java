@@ -0,0 +1,445 @@
+package com.tioh.validation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 부하 테스트용 식별번호 생성기
+ * <p>
+ * 검증기와 같은 알고리즘으로 검증번호를 직접 계산해 유효한 번호를 만들고, 결과코드별로 지정한 비율만큼 잘못된 번호를 섞는다.
+ * {@code index} 번째 번호는 시드와 {@code index} 만으로 정해지므로(카운터 기반 난수) 범위를 나눠 여러 스레드에서 만들어도
+ * 순서대로 만든 결과와 같다. 불변 객체이므로 여러 스레드에서 공유할 수 있다.
+ *
+ * <pre>
+ * IdentifierGenerator generator = IdentifierGenerator.builder(ValidationType.BUSINESS_REGISTRATION_NUMBER)
+ *         .seed(42)
+ *         .ratio(Reason.CHECKSUM, 0.05)
+ *         .ratio(Reason.NOT_NUMERIC, 0.01)
+ *         .build();
+ * generator.stream(0, 100_000_000).parallel().forEach(client::send);
+ * generator.write(channel, 0, 100_000_000);
+ * </pre>
+ */
+public final class IdentifierGenerator {
+
+    static final int MAX_LENGTH = 20;
+
+    private static final long GOLDEN      = 0x9e3779b97f4a7c15L;
+    private static final int  BUFFER_SIZE = 1 << 16;
+    private static final byte LF          = '\n';
+
+    private static final char[]   VIN_CHARS      = "0123456789ABCDEFGHJKLMNPRSTUVWXYZ".toCharArray();
+    private static final char[]   VIN_ILLEGAL    = {'I', 'O', 'Q'};
+    private static final String   CHECK_DIGITS   = "0123456789X";
+    private static final String   GENDER_ILLEGAL = "056789";
+    private static final String[] USAGE_SIGNS    = Arrays.stream(VehicleRegistrationNumber.USAGE_SIGNS)
+            .filter(sign -> sign.length() == 1)
+            .toArray(String[]::new);
+    private static final String[] PHONE_PREFIXES = Arrays.stream(PhoneNumberCategory.values())
+            .flatMap(category -> Arrays.stream(category.getPrefixes()))
+            .toArray(String[]::new);
+
+    private static final ThreadLocal<Cursor> CURSOR = ThreadLocal.withInitial(Cursor::new);
+
+    private final ValidationType type;
+    private final long           seed;
+    private final boolean        formatted;
+    private final Reason[]       reasons;
+    private final double[]       thresholds;
+
+    private IdentifierGenerator(Builder builder) {
+        this.type = builder.type;
+        this.seed = builder.seed;
+        this.formatted = builder.formatted;
+        this.reasons = builder.ratios.keySet().toArray(new Reason[0]);
+        this.thresholds = new double[reasons.length];
+        double sum = 0;
+        for (int i = 0; i < reasons.length; i++) {
+            thresholds[i] = sum += builder.ratios.get(reasons[i]);
+        }
+    }
+
+    /**
+     * @param type 검증 종류
+     * @return 빌더 (기본값 : 시드 0, 모두 유효, 구분자 없음)
+     */
+    public static Builder builder(ValidationType type) {
+        return new Builder(Objects.requireNonNull(type, "type"));
+    }
+
+    /**
+     * @param type 검증 종류
+     * @return 만들 수 있는 결과코드
+     */
+    public static Set<Reason> reasons(ValidationType type) {
+        switch (type) {
+            case BUSINESS_REGISTRATION_NUMBER:
+                return EnumSet.of(Reason.VALID, Reason.EMPTY, Reason.SIZE, Reason.NOT_NUMERIC, Reason.CHECKSUM);
+            case RESIDENT_REGISTRATION_NUMBER:
+                return EnumSet.of(Reason.VALID, Reason.EMPTY, Reason.SIZE, Reason.NOT_NUMERIC, Reason.GENDER_CODE, Reason.CHECKSUM);
+            case VEHICLE_REGISTRATION_NUMBER:
+                return EnumSet.of(Reason.VALID, Reason.EMPTY, Reason.SIZE, Reason.FORMAT, Reason.USAGE_SIGN, Reason.AREA_SIGN);
+            case VEHICLE_IDENTIFICATION_NUMBER:
+                return EnumSet.of(Reason.VALID, Reason.EMPTY, Reason.SIZE, Reason.ILLEGAL_CHAR, Reason.CHECKSUM);
+            default:
+                return EnumSet.of(Reason.VALID, Reason.EMPTY, Reason.SIZE, Reason.NOT_NUMERIC, Reason.FORMAT);
+        }
+    }
+
+    public ValidationType getType() {
+        return type;
+    }
+
+    /**
+     * @param index 순번 (0 이상)
+     * @return {@code index} 번째 번호
+     */
+    public String get(long index) {
+        Cursor cursor = CURSOR.get();
+        generate(index, cursor);
+        return new String(cursor.chars, 0, cursor.length);
+    }
+
+    /**
+     * @param index 순번 (0 이상)
+     * @return {@code index} 번째 번호를 검증했을 때의 결과코드
+     */
+    public Reason reason(long index) {
+        Cursor cursor = CURSOR.get();
+        cursor.seek(seed, index);
+        return reason(cursor.nextDouble());
+    }
+
+    /**
+     * @param from 시작 순번 (포함)
+     * @param to   끝 순번 (제외)
+     * @return 번호 스트림 ({@code parallel()} 로 나눠도 순번별 번호는 같음)
+     */
+    public Stream<String> stream(long from, long to) {
+        range(from, to);
+        return LongStream.range(from, to).mapToObj(this::get);
+    }
+
+    /**
+     * 번호를 한 줄(LF)씩 채널에 쓴다. 버퍼에 UTF-8 로 바로 인코딩하므로 번호마다 문자열을 만들지 않는다.
+     * 범위를 나눠 여러 채널에 동시에 쓸 수 있다.
+     *
+     * @param channel 출력 (닫지 않음)
+     * @param from    시작 순번 (포함)
+     * @param to      끝 순번 (제외)
+     * @return 쓴 바이트 수
+     * @throws IOException 쓸 수 없는 경우
+     */
+    public long write(WritableByteChannel channel, long from, long to) throws IOException {
+        range(from, to);
+        Cursor     cursor  = new Cursor();
+        ByteBuffer buffer  = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long       written = 0;
+        for (long index = from; index < to; index++) {
+            generate(index, cursor);
+            if (buffer.remaining() < MAX_LENGTH * 3 + 1) written += flush(channel, buffer);
+            encode(cursor, buffer);
+            buffer.put(LF);
+        }
+        return written + flush(channel, buffer);
+    }
+
+    private void generate(long index, Cursor cursor) {
+        cursor.seek(seed, index);
+        Reason reason = reason(cursor.nextDouble());
+        cursor.hyphens = 0;
+        if (reason == Reason.EMPTY) {
+            cursor.length = 0;
+            return;
+        }
+        switch (type) {
+            case BUSINESS_REGISTRATION_NUMBER:
+                businessRegistrationNumber(cursor, reason);
+                break;
+            case RESIDENT_REGISTRATION_NUMBER:
+                residentRegistrationNumber(cursor, reason);
+                break;
+            case VEHICLE_REGISTRATION_NUMBER:
+                vehicleRegistrationNumber(cursor, reason);
+                break;
+            case VEHICLE_IDENTIFICATION_NUMBER:
+                vehicleIdentificationNumber(cursor, reason);
+                break;
+            default:
+                phoneNumber(cursor, reason);
+                break;
+        }
+        if (reason == Reason.NOT_NUMERIC) cursor.chars[cursor.nextInt(cursor.length)] = (char) ('A' + cursor.nextInt(26));
+        if (reason == Reason.SIZE) {
+            // 전화번호는 10, 11자리가 모두 유효하므로 9 또는 12자리로
+            boolean shrink = type == ValidationType.MOBILE_PHONE_NUMBER ? cursor.length == 10 : cursor.nextInt(2) == 0;
+            if (shrink) {
+                cursor.length--;
+            } else {
+                cursor.digits(cursor.length, cursor.length + 1);
+                cursor.length++;
+            }
+        } else if (formatted) {
+            cursor.hyphenate();
+        }
+    }
+
+    private Reason reason(double random) {
+        for (int i = 0; i < thresholds.length; i++) {
+            if (random < thresholds[i]) return reasons[i];
+        }
+        return Reason.VALID;
+    }
+
+    /**
+     * 앞 9자리 + 검증번호, 구분자 3-2-5
+     */
+    private static void businessRegistrationNumber(Cursor cursor, Reason reason) {
+        int prefix;
+        int check;
+        do {
+            prefix = cursor.nextInt(1_000_000_000);
+            check = BusinessRegistrationNumber.checkDigit(prefix);
+        } while (check < 0);
+        cursor.number(prefix, 9);
+        cursor.chars[9] = (char) ('0' + (reason == Reason.CHECKSUM ? (check + 1 + cursor.nextInt(9)) % 10 : check));
+        cursor.length = 10;
+        cursor.hyphens(3, 5);
+    }
+
+    /**
+     * 생년월일 6자리 + 성별 + 일련번호 5자리 + 검증번호, 구분자 6-7
+     */
+    private static void residentRegistrationNumber(Cursor cursor, Reason reason) {
+        long birth = (cursor.nextInt(100) * 100L + 1 + cursor.nextInt(12)) * 100 + 1 + cursor.nextInt(28);
+        long prefix;
+        int  check;
+        do {
+            prefix = (birth * 10 + 1 + cursor.nextInt(4)) * 100_000 + cursor.nextInt(100_000);
+            check = ResidentRegistrationNumber.checkDigit(prefix);
+        } while (check < 0);
+        cursor.number(prefix, 12);
+        cursor.chars[12] = (char) ('0' + (reason == Reason.CHECKSUM ? (check + 1 + cursor.nextInt(9)) % 10 : check));
+        if (reason == Reason.GENDER_CODE) cursor.chars[6] = GENDER_ILLEGAL.charAt(cursor.nextInt(GENDER_ILLEGAL.length()));
+        cursor.length = 13;
+        cursor.hyphens(6, 0);
+    }
+
+    /**
+     * [지역명] 숫자 2자리 + 용도기호 1자 + 숫자 4자리 (검증기가 받는 7, 9자 형식)
+     */
+    private static void vehicleRegistrationNumber(Cursor cursor, Reason reason) {
+        char[] chars = cursor.chars;
+        int    i     = 0;
+        if (reason == Reason.AREA_SIGN) {
+            do {
+                cursor.syllable(0);
+                cursor.syllable(1);
+            } while (VehicleRegistrationNumber.AREA_SIGN.contains(cursor.view, 0, 2));
+            i = 2;
+        } else if (cursor.nextInt(4) == 0) {
+            String area = VehicleRegistrationNumber.AREA_SIGNS[cursor.nextInt(VehicleRegistrationNumber.AREA_SIGNS.length)];
+            area.getChars(0, 2, chars, 0);
+            i = 2;
+        }
+        cursor.digits(i, i + 2);
+        if (reason == Reason.USAGE_SIGN) {
+            do {
+                cursor.syllable(i + 2);
+            } while (VehicleRegistrationNumber.USAGE_SIGN.contains(cursor.view, i + 2, 1));
+        } else {
+            chars[i + 2] = USAGE_SIGNS[cursor.nextInt(USAGE_SIGNS.length)].charAt(0);
+        }
+        cursor.digits(i + 3, i + 7);
+        cursor.length = i + 7;
+        if (reason == Reason.FORMAT) {
+            int position = cursor.nextInt(6);
+            chars[i + (position < 2 ? position : position + 1)] = (char) ('A' + cursor.nextInt(26));
+        }
+    }
+
+    /**
+     * 영문(I, O, Q 제외)/숫자 11자 + 숫자 6자, 9번째 자리는 검사숫자
+     */
+    private static void vehicleIdentificationNumber(Cursor cursor, Reason reason) {
+        char[] chars = cursor.chars;
+        for (int i = 0; i < 11; i++) {
+            chars[i] = VIN_CHARS[cursor.nextInt(VIN_CHARS.length)];
+        }
+        cursor.digits(11, 17);
+        char check = VehicleIdentificationNumber.checkDigit(cursor.view);
+        chars[8] = reason == Reason.CHECKSUM
+                ? CHECK_DIGITS.charAt((CHECK_DIGITS.indexOf(check) + 1 + cursor.nextInt(10)) % 11)
+                : check;
+        if (reason == Reason.ILLEGAL_CHAR) chars[cursor.nextInt(17)] = VIN_ILLEGAL[cursor.nextInt(VIN_ILLEGAL.length)];
+        cursor.length = 17;
+    }
+
+    /**
+     * 식별번호 (절반은 010) + 가입자번호 7 ~ 8자리 (첫 자리 2 ~ 9), 합쳐서 10 ~ 11자리
+     */
+    private static void phoneNumber(Cursor cursor, Reason reason) {
+        String prefix = cursor.nextInt(2) == 0 ? "010" : PHONE_PREFIXES[cursor.nextInt(PHONE_PREFIXES.length)];
+        int    offset = prefix.length();
+        int    rest   = offset == 2 || prefix.equals("010") ? 8 : 7 + cursor.nextInt(2);
+        prefix.getChars(0, offset, cursor.chars, 0);
+        cursor.chars[offset] = (char) ('2' + cursor.nextInt(8));
+        cursor.digits(offset + 1, offset + rest);
+        if (reason == Reason.FORMAT) cursor.chars[0] = (char) ('1' + cursor.nextInt(9));
+        cursor.length = offset + rest;
+        cursor.hyphens(offset, cursor.length - 4);
+    }
+
+    private static void encode(Cursor cursor, ByteBuffer buffer) {
+        for (int i = 0; i < cursor.length; i++) {
+            char c = cursor.chars[i];
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private static int flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        int size = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        return size;
+    }
+
+    private static void range(long from, long to) {
+        if (from < 0 || from > to) throw new IllegalArgumentException(String.format("Invalid range: [%d, %d)", from, to));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 번호 하나를 만드는 작업 공간과 난수 (SplitMix64, 순번마다 시드와 순번을 섞은 값에서 시작)
+     */
+    private static final class Cursor {
+
+        private final char[]     chars = new char[MAX_LENGTH];
+        private final CharBuffer view  = CharBuffer.wrap(chars);
+        private long             state;
+        private int              length;
+        private int              hyphens;
+
+        void seek(long seed, long index) {
+            state = seed ^ mix(index + GOLDEN);
+        }
+
+        long nextLong() {
+            return mix(state += GOLDEN);
+        }
+
+        int nextInt(int bound) {
+            return (int) (((nextLong() >>> 32) * bound) >>> 32);
+        }
+
+        double nextDouble() {
+            return (nextLong() >>> 11) * 0x1.0p-53;
+        }
+
+        void digits(int from, int to) {
+            for (int i = from; i < to; i++) {
+                chars[i] = (char) ('0' + nextInt(10));
+            }
+        }
+
+        void number(long value, int digits) {
+            for (int i = digits - 1; i >= 0; i--, value /= 10) {
+                chars[i] = (char) ('0' + value % 10);
+            }
+        }
+
+        void syllable(int index) {
+            chars[index] = (char) (SignTable.FIRST + nextInt(SignTable.SYLLABLE));
+        }
+
+        /**
+         * @param first  첫 번째 구분자 위치 (0 이면 없음)
+         * @param second 두 번째 구분자 위치 (0 이면 없음)
+         */
+        void hyphens(int first, int second) {
+            hyphens = first << 8 | second;
+        }
+
+        void hyphenate() {
+            int second = hyphens & 0xFF;
+            int first  = hyphens >>> 8;
+            if (second > 0) insert(second);
+            if (first > 0) insert(first);
+        }
+
+        private void insert(int index) {
+            System.arraycopy(chars, index, chars, index + 1, length - index);
+            chars[index] = '-';
+            length++;
+        }
+    }
+
+    public static final class Builder {
+
+        private final ValidationType      type;
+        private final Map<Reason, Double> ratios = new EnumMap<>(Reason.class);
+        private long                      seed;
+        private boolean                   formatted;
+
+        private Builder(ValidationType type) {
+            this.type = type;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * @param reason 만들 결과코드 ({@link #reasons(ValidationType)} 중 VALID 제외)
+         * @param ratio  비율 (0 ~ 1, 나머지는 유효한 번호)
+         */
+        public Builder ratio(Reason reason, double ratio) {
+            Objects.requireNonNull(reason, "reason");
+            if (reason == Reason.VALID || !reasons(type).contains(reason)) {
+                throw new IllegalArgumentException(String.format("Cannot generate %s for %s, supported: %s", reason, type, reasons(type)));
+            }
+            if (!(ratio >= 0 && ratio <= 1)) throw new IllegalArgumentException(String.format("Ratio must be between 0 and 1: %s", ratio));
+            ratios.put(reason, ratio);
+            return this;
+        }
+
+        /**
+         * @param formatted 사업자번호, 주민등록번호, 전화번호에 구분자('-') 포함 여부 (SIZE 제외)
+         */
+        public Builder formatted(boolean formatted) {
+            this.formatted = formatted;
+            return this;
+        }
+
+        public IdentifierGenerator build() {
+            double sum = ratios.values().stream().mapToDouble(Double::doubleValue).sum();
+            if (sum > 1 + 1e-9) throw new IllegalArgumentException(String.format("Sum of ratios must not exceed 1: %s", sum));
+            return new IdentifierGenerator(this);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.tioh.validation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 힙 밖(direct / mmap {@link ByteBuffer})에 두는 식별번호 집합
+ * <p>
+ * 사업자번호, 주민등록번호, 전화번호를 검증한 뒤 {@code pack()} 값(long)을 키로 열린 주소법(선형 탐사) 테이블에 저장한다.
+ * 파일 형식은 메모리 형식과 같아서 {@link #map(Path)} 는 역직렬화 없이 파일을 그대로 매핑한다.
+ * 만든 뒤에는 읽기 전용이므로 여러 스레드에서 잠금 없이 조회할 수 있다.
+ *
+ * <pre>
+ * 헤더 (32 byte, little-endian)
+ *   0  int  MAGIC
+ *   4  int  VERSION
+ *   8  int  검증 종류 ({@link ValidationType#ordinal()})
+ *  12  int  항목 수
+ *  16  int  슬롯 수 (2의 거듭제곱)
+ * 슬롯 (슬롯 수 x 8 byte) : pack() + 1, 빈 슬롯은 0
+ * </pre>
+ */
+public final class IdentifierSet {
+
+    static final int MAGIC   = 0x54494453;
+    static final int VERSION = 1;
+    static final int HEADER  = 32;
+
+    // 빈 슬롯이 항상 남도록 슬롯의 3/4 까지만 채움
+    private static final int MAX_SLOTS = 1 << 27;
+
+    private final ValidationType type;
+    private final ByteBuffer     buffer;
+    private final int            size;
+    private final int            mask;
+
+    private IdentifierSet(ByteBuffer buffer) {
+        this.buffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.capacity() < HEADER || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Not an identifier set");
+        }
+        int ordinal = buffer.getInt(8);
+        int slots = buffer.getInt(16);
+        if (ordinal < 0 || ordinal >= ValidationType.values().length || Integer.bitCount(slots) != 1
+                || buffer.capacity() != HEADER + (long) slots * Long.BYTES) {
+            throw new IllegalArgumentException("Corrupted identifier set");
+        }
+        this.type = supported(ValidationType.values()[ordinal]);
+        this.size = buffer.getInt(12);
+        this.mask = slots - 1;
+    }
+
+    /**
+     * @param type 검증 종류 (사업자번호, 주민등록번호, 전화번호)
+     * @param expectedSize 예상 항목 수
+     * @return 빌더
+     */
+    public static Builder builder(ValidationType type, int expectedSize) {
+        return new Builder(supported(type), expectedSize);
+    }
+
+    /**
+     * 파일을 읽기 전용으로 매핑 (파일 내용은 복사하지 않음)
+     *
+     * @param path {@link #write(Path)} 로 쓴 파일
+     * @return 집합
+     */
+    public static IdentifierSet map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new IdentifierSet(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @param path 저장할 파일 (덮어씀)
+     */
+    public void write(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = buffer.duplicate();
+            source.clear();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+
+    public ValidationType getType() {
+        return type;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param value 입력 (유효하지 않으면 false)
+     * @return 포함 여부
+     */
+    public boolean contains(CharSequence value) {
+        NumberBuffer ctx = type.tryNormalize(value);
+        return ctx != null && contains(key(type, ctx));
+    }
+
+    /**
+     * @param packed {@code pack()} 값
+     * @return 포함 여부
+     */
+    public boolean contains(long packed) {
+        if (packed < 0) return false;
+        long stored = packed + 1;
+        for (int slot = slot(packed, mask); ; slot = (slot + 1) & mask) {
+            long current = buffer.getLong(HEADER + slot * Long.BYTES);
+            if (current == stored) return true;
+            if (current == 0) return false;
+        }
+    }
+
+    private static ValidationType supported(ValidationType type) {
+        switch (type) {
+            case BUSINESS_REGISTRATION_NUMBER:
+            case RESIDENT_REGISTRATION_NUMBER:
+            case MOBILE_PHONE_NUMBER:
+                return type;
+            default:
+                throw new IllegalArgumentException(String.format("Identifier set does not support %s", type));
+        }
+    }
+
+    private static long key(ValidationType type, NumberBuffer ctx) {
+        switch (type) {
+            case BUSINESS_REGISTRATION_NUMBER:
+                return BusinessRegistrationNumberValue.encode(ctx);
+            case RESIDENT_REGISTRATION_NUMBER:
+                return ResidentRegistrationNumberValue.encode(ctx);
+            default:
+                return PhoneNumberValue.encode(ctx);
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+
+    public static final class Builder {
+
+        private final ValidationType type;
+        private final ByteBuffer     buffer;
+        private final int            mask;
+        private final int            limit;
+        private int                  size;
+        private boolean              built;
+
+        private Builder(ValidationType type, int expectedSize) {
+            if (expectedSize < 0) throw new IllegalArgumentException(String.format("Expected size must not be negative: %d", expectedSize));
+            long capacity = Math.max(Long.highestOneBit(Math.max(expectedSize, 1) * 2L - 1) * 2, 4);
+            if (capacity > MAX_SLOTS) throw new IllegalArgumentException(String.format("Too many identifiers: %d", expectedSize));
+            int slots = (int) capacity;
+            this.type = type;
+            this.mask = slots - 1;
+            this.limit = slots - slots / 4;
+            this.buffer = ByteBuffer.allocateDirect(HEADER + slots * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, type.ordinal()).putInt(16, slots);
+        }
+
+        /**
+         * 검증 후 추가
+         *
+         * @param value 입력
+         * @throws IllegalArgumentException 검증 실패 시 검증기와 같은 예외
+         */
+        public Builder add(CharSequence value) {
+            return add(key(type, type.normalize(value)));
+        }
+
+        /**
+         * @param packed {@code pack()} 값
+         * @throws IllegalStateException {@link #build()} 이후 호출한 경우 (집합이 빌더의 버퍼를 공유함)
+         */
+        public Builder add(long packed) {
+            if (built) throw new IllegalStateException("Identifier set is already built");
+            if (packed < 0) throw new IllegalArgumentException(String.format("Packed value must not be negative: %d", packed));
+            long stored = packed + 1;
+            for (int slot = slot(packed, mask); ; slot = (slot + 1) & mask) {
+                int index = HEADER + slot * Long.BYTES;
+                long current = buffer.getLong(index);
+                if (current == stored) return this;
+                if (current == 0) {
+                    if (size == limit) throw new IllegalStateException(String.format("Identifier set is full: %d", size));
+                    buffer.putLong(index, stored);
+                    size++;
+                    return this;
+                }
+            }
+        }
+
+        /**
+         * 빌더의 버퍼를 복사하지 않고 그대로 쓰므로 이후에는 추가할 수 없다.
+         */
+        public IdentifierSet build() {
+            built = true;
+            buffer.putInt(12, size);
+            return new IdentifierSet(buffer.asReadOnlyBuffer());
+        }
+    }
+}
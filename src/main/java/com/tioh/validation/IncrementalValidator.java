@@ -0,0 +1,260 @@
+package com.tioh.validation;
+
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * 한 글자씩 입력받는 검증기 (키 입력마다 상태 확인)
+ * <p>
+ * 구분자('-', ' ')를 뺀 글자마다 그때까지의 상태(가중합, 전화번호 식별번호 트라이 상태, 차량번호 구문 상태)를 쌓아 두므로
+ * 글자를 추가하거나 지울 때 처음부터 다시 검증하지 않고 상수 시간에 상태를 갱신한다.
+ * 상태별 의미는 {@link Status} 참고. 입력 하나(입력창 하나)마다 만들어 쓰며 thread-safe 하지 않다.
+ *
+ * <pre>
+ * IncrementalValidator validator = IncrementalValidator.of(ValidationType.BUSINESS_REGISTRATION_NUMBER);
+ * validator.append('1');      // INCOMPLETE
+ * validator.append("05-81-69429");  // VALID
+ * validator.delete();         // INCOMPLETE
+ * </pre>
+ */
+public final class IncrementalValidator {
+
+    private static final int DEAD = -1;
+
+    public enum Status {
+        /**
+         * 지금까지는 유효, 글자가 더 필요함
+         */
+        INCOMPLETE,
+        /**
+         * 완성되었고 유효 (전화번호처럼 더 입력해도 유효할 수 있음)
+         */
+        VALID,
+        /**
+         * 글자를 더 입력해도 유효해질 수 없음
+         */
+        DEAD_END
+    }
+
+    private final ValidationType type;
+    private final Grammar        grammar;
+    private final StringBuilder  text   = new StringBuilder();
+    private final char[]         chars;
+    private final CharBuffer     view;
+    private final int[]          states;
+    private int                  size;
+    private int                  excess;
+
+    private IncrementalValidator(ValidationType type) {
+        this.type = type;
+        this.grammar = Grammar.of(type);
+        this.chars = new char[grammar.length];
+        this.view = CharBuffer.wrap(chars);
+        this.states = new int[grammar.length + 1];
+    }
+
+    /**
+     * @param type 검증 종류
+     * @return 빈 입력의 검증기
+     */
+    public static IncrementalValidator of(ValidationType type) {
+        return new IncrementalValidator(Objects.requireNonNull(type, "type"));
+    }
+
+    /**
+     * @param c 입력한 글자
+     * @return 상태
+     */
+    public Status append(char c) {
+        text.append(c);
+        if (c == '-' || c == ' ') return status();
+        if (size == chars.length) {
+            excess++;
+        } else {
+            chars[size] = c;
+            int state = states[size];
+            states[size + 1] = state == DEAD ? DEAD : grammar.next(state, size, c, view);
+            size++;
+        }
+        return status();
+    }
+
+    /**
+     * @param value 붙여넣은 글자들
+     * @return 상태
+     */
+    public Status append(CharSequence value) {
+        for (int i = 0, n = value.length(); i < n; i++) {
+            append(value.charAt(i));
+        }
+        return status();
+    }
+
+    /**
+     * 마지막 글자 삭제 (비어 있으면 무시)
+     *
+     * @return 상태
+     */
+    public Status delete() {
+        int last = text.length() - 1;
+        if (last < 0) return status();
+        char c = text.charAt(last);
+        text.setLength(last);
+        if (c == '-' || c == ' ') return status();
+        if (excess > 0) {
+            excess--;
+        } else {
+            size--;
+        }
+        return status();
+    }
+
+    public void clear() {
+        text.setLength(0);
+        size = 0;
+        excess = 0;
+    }
+
+    public Status status() {
+        int state = states[size];
+        if (excess > 0 || state == DEAD) return Status.DEAD_END;
+        return grammar.status(state, size);
+    }
+
+    public ValidationType getType() {
+        return type;
+    }
+
+    /**
+     * @return 구분자를 포함한 입력 길이
+     */
+    public int length() {
+        return text.length();
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+
+    /**
+     * 검증 종류별 글자 단위 상태 전이 ({@code state} 는 직전 글자까지의 상태, 시작은 0)
+     */
+    private enum Grammar {
+        /**
+         * 상태 = 자리별 변환값 합
+         */
+        BUSINESS_REGISTRATION_NUMBER(10) {
+            @Override
+            int next(int state, int index, char c, CharSequence chars) {
+                int transform = BusinessRegistrationNumber.transform(index, c);
+                return transform < 0 ? DEAD : state + transform;
+            }
+
+            @Override
+            Status status(int state, int size) {
+                if (size < length) return Status.INCOMPLETE;
+                return state % 10 == 0 && state != 0 ? Status.VALID : Status.DEAD_END;
+            }
+        },
+        /**
+         * 상태 = 앞 12자리 가중합 (성별코드는 7번째 자리에서, 검증번호는 마지막 자리에서 확인)
+         */
+        RESIDENT_REGISTRATION_NUMBER(13) {
+            @Override
+            int next(int state, int index, char c, CharSequence chars) {
+                int weight = ResidentRegistrationNumber.weight(index, c);
+                if (weight < 0) return DEAD;
+                if (index == length - 1) return ResidentRegistrationNumber.isCheckDigit(state, c) ? state : DEAD;
+                return state + weight;
+            }
+        },
+        /**
+         * 상태 = 0 시작, 1 지역명 첫 글자, 2 지역명, 3 ~ 4 숫자 2자리, 5 용도기호, 6 ~ 9 일련번호
+         */
+        VEHICLE_REGISTRATION_NUMBER(9) {
+            @Override
+            int next(int state, int index, char c, CharSequence chars) {
+                switch (state) {
+                    case 0:
+                        return VehicleRegistrationNumber.isHangul(c) ? 1 : isDigit(c) ? 3 : DEAD;
+                    case 1:
+                        return VehicleRegistrationNumber.AREA_SIGN.contains(chars, 0, 2) ? 2 : DEAD;
+                    case 4:
+                        return VehicleRegistrationNumber.USAGE_SIGN.contains(chars, index, 1) ? 5 : DEAD;
+                    case 9:
+                        return DEAD;
+                    default:
+                        return isDigit(c) ? state + 1 : DEAD;
+                }
+            }
+
+            @Override
+            Status status(int state, int size) {
+                return state == 9 ? Status.VALID : Status.INCOMPLETE;
+            }
+        },
+        /**
+         * 상태 = 가중합 (자리별 허용 문자는 글자마다, 검사숫자는 마지막 자리에서 확인)
+         */
+        VEHICLE_IDENTIFICATION_NUMBER(17) {
+            @Override
+            int next(int state, int index, char c, CharSequence chars) {
+                int weight = VehicleIdentificationNumber.weight(index, c);
+                if (weight < 0) return DEAD;
+                if (index == length - 1) return VehicleIdentificationNumber.isCheckDigit(state + weight, chars.charAt(8)) ? state + weight : DEAD;
+                return state + weight;
+            }
+        },
+        /**
+         * 상태 = 식별번호 트라이 상태 (식별번호가 끝나면 유지)
+         */
+        MOBILE_PHONE_NUMBER(11) {
+            @Override
+            int next(int state, int index, char c, CharSequence chars) {
+                if (!isDigit(c)) return DEAD;
+                return PhoneNumber.depth(state) > 0 ? state : PhoneNumber.next(state, c - '0');
+            }
+
+            @Override
+            Status status(int state, int size) {
+                int depth = PhoneNumber.depth(state);
+                if (depth == 0) return Status.INCOMPLETE;
+                int rest = size - depth;
+                if ((size == 10 || size == 11) && (rest == 7 || rest == 8)) return Status.VALID;
+                return size < 11 && rest < 8 ? Status.INCOMPLETE : Status.DEAD_END;
+            }
+        };
+
+        final int length;
+
+        Grammar(int length) {
+            this.length = length;
+        }
+
+        static Grammar of(ValidationType type) {
+            return valueOf(type.name());
+        }
+
+        /**
+         * @param state 직전 글자까지의 상태
+         * @param index 글자 위치 (구분자 제외)
+         * @param c     글자
+         * @param chars 구분자를 뺀 입력 ({@code index} 까지)
+         * @return 다음 상태, 유효해질 수 없으면 {@link #DEAD}
+         */
+        abstract int next(int state, int index, char c, CharSequence chars);
+
+        /**
+         * @param state 마지막 글자까지의 상태 (DEAD 제외)
+         * @param size  글자 수 (구분자 제외)
+         */
+        Status status(int state, int size) {
+            return size < length ? Status.INCOMPLETE : Status.VALID;
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.tioh.validation;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * 검증 호출을 {@link ValidationMetrics} 에 기록하는 {@link IValidator}
+ * <p>
+ * 예외 방식 메서드도 위임 대상의 결과코드 메서드로 검증한 뒤 기본 검증기와 같은 예외를 던진다.
+ * 일괄 검증은 결과코드 건수만 기록하고 지연시간은 기록하지 않는다.
+ */
+public final class InstrumentedValidator implements IValidator {
+
+    private final IValidator        delegate;
+    private final ValidationMetrics metrics;
+
+    public InstrumentedValidator(IValidator delegate, ValidationMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.metrics = Objects.requireNonNull(metrics, "metrics");
+    }
+
+    public ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public boolean businessRegistrationNumber(String brn) {
+        return validate(ValidationType.BUSINESS_REGISTRATION_NUMBER, brn);
+    }
+
+    @Override
+    public boolean residentRegistrationNumber(String rrn) {
+        return validate(ValidationType.RESIDENT_REGISTRATION_NUMBER, rrn);
+    }
+
+    @Override
+    public boolean vehicleRegistrationNumber(String vnr) {
+        return validate(ValidationType.VEHICLE_REGISTRATION_NUMBER, vnr);
+    }
+
+    @Override
+    public boolean vehicleIdentificationNumber(String vin) {
+        return validate(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, vin);
+    }
+
+    @Override
+    public boolean mobilePhoneNumber(String num) {
+        return validate(ValidationType.MOBILE_PHONE_NUMBER, num);
+    }
+
+    @Override
+    public Reason checkBusinessRegistrationNumber(String brn) {
+        return check(ValidationType.BUSINESS_REGISTRATION_NUMBER, brn);
+    }
+
+    @Override
+    public Reason checkResidentRegistrationNumber(String rrn) {
+        return check(ValidationType.RESIDENT_REGISTRATION_NUMBER, rrn);
+    }
+
+    @Override
+    public Reason checkVehicleRegistrationNumber(String vnr) {
+        return check(ValidationType.VEHICLE_REGISTRATION_NUMBER, vnr);
+    }
+
+    @Override
+    public Reason checkVehicleIdentificationNumber(String vin) {
+        return check(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, vin);
+    }
+
+    @Override
+    public Reason checkMobilePhoneNumber(String num) {
+        return check(ValidationType.MOBILE_PHONE_NUMBER, num);
+    }
+
+    @Override
+    public ValidationResult validate(ValidationType type, CharSequence value) {
+        if (!metrics.sampled()) {
+            ValidationResult result = delegate.validate(type, value);
+            metrics.record(type, result.getReason());
+            return result;
+        }
+        long start = System.nanoTime();
+        ValidationResult result = delegate.validate(type, value);
+        metrics.record(type, result.getReason(), System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public Reason check(ValidationType type, byte[] bytes, int offset, int length) {
+        if (!metrics.sampled()) {
+            Reason reason = delegate.check(type, bytes, offset, length);
+            metrics.record(type, reason);
+            return reason;
+        }
+        long start = System.nanoTime();
+        Reason reason = delegate.check(type, bytes, offset, length);
+        metrics.record(type, reason, System.nanoTime() - start);
+        return reason;
+    }
+
+    @Override
+    public Reason check(ValidationType type, ByteBuffer buffer) {
+        if (!metrics.sampled()) {
+            Reason reason = delegate.check(type, buffer);
+            metrics.record(type, reason);
+            return reason;
+        }
+        long start = System.nanoTime();
+        Reason reason = delegate.check(type, buffer);
+        metrics.record(type, reason, System.nanoTime() - start);
+        return reason;
+    }
+
+    @Override
+    public byte[] validateAll(ValidationType type, List<? extends CharSequence> values) {
+        return record(type, delegate.validateAll(type, values));
+    }
+
+    @Override
+    public byte[] validateAll(ValidationType type, CharSequence[] values) {
+        return record(type, delegate.validateAll(type, values));
+    }
+
+    @Override
+    public byte[] validateAll(ValidationType type, List<? extends CharSequence> values, ForkJoinPool pool) {
+        return record(type, delegate.validateAll(type, values, pool));
+    }
+
+    @Override
+    public byte[] validateAll(ValidationType type, CharSequence[] values, ForkJoinPool pool) {
+        return record(type, delegate.validateAll(type, values, pool));
+    }
+
+    @Override
+    public Stream<Reason> validateAll(ValidationType type, Stream<? extends CharSequence> values) {
+        return delegate.validateAll(type, values).peek(reason -> metrics.record(type, reason));
+    }
+
+    private boolean validate(ValidationType type, String value) {
+        Reason reason = check(type, value);
+        if (!reason.isValid()) throw type.validator().exception(reason, value);
+        return true;
+    }
+
+    private Reason check(ValidationType type, String value) {
+        if (!metrics.sampled()) {
+            Reason reason = type.check(delegate, value);
+            metrics.record(type, reason);
+            return reason;
+        }
+        long start = System.nanoTime();
+        Reason reason = type.check(delegate, value);
+        metrics.record(type, reason, System.nanoTime() - start);
+        return reason;
+    }
+
+    private byte[] record(ValidationType type, byte[] reasons) {
+        metrics.record(type, reasons);
+        return reasons;
+    }
+}
@@ -0,0 +1,86 @@
+package com.tioh.validation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잠금 없는 로그-선형 지연시간 히스토그램 (HDR 방식)
+ * <p>
+ * 2의 거듭제곱 구간마다 {@link #SUB_BUCKETS} 개의 균등 구간을 두어 상대 오차를 1/{@link #SUB_BUCKETS} 이내로 유지한다.
+ * 0 ~ {@link Long#MAX_VALUE} 나노초를 고정 크기 배열 하나로 표현하며 기록 시 할당이 없다.
+ */
+final class LatencyHistogram {
+
+    static final int SUB_BITS    = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BITS;
+    static final int BUCKETS     = (63 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder       total  = new LongAdder();
+
+    void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(index(value));
+        total.add(value);
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+    }
+
+    /**
+     * @return 구간별 기록 횟수 복사본
+     */
+    long[] counts() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return copy;
+    }
+
+    long total() {
+        return total.sum();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        return (magnitude - SUB_BITS + 1) * SUB_BUCKETS + (int) ((value >>> (magnitude - SUB_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @param index 구간 위치
+     * @return 구간에 들어가는 가장 큰 값
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int magnitude = index / SUB_BUCKETS + SUB_BITS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (magnitude - SUB_BITS);
+        long width = 1L << (magnitude - SUB_BITS);
+        return lower + (width - 1);
+    }
+
+    /**
+     * @param counts 구간별 기록 횟수
+     * @param percentile 백분위 (0 ~ 100)
+     * @return 백분위 값의 상한 (기록이 없으면 0)
+     */
+    static long percentile(long[] counts, double percentile) {
+        long count = 0;
+        for (long c : counts) {
+            count += c;
+        }
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(Math.max(percentile, 0), 100) / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return upperBound(i);
+        }
+        return upperBound(counts.length - 1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.tioh.validation;
+
+/**
+ * 검증기 로그 정책
+ * <p>
+ * 기본값은 꺼짐이며, 꺼져 있으면 검증기는 로그 관련 작업(레벨 확인, 인자 배열 생성, 마스킹)을 전혀 하지 않는다.
+ * 시스템 프로퍼티로 초기값을 줄 수 있다.
+ * <ul>
+ *     <li>{@code tioh.validation.logging} : 사용 여부 (기본 false)</li>
+ *     <li>{@code tioh.validation.logging.sampling} : N 번에 한 번만 기록 (기본 1)</li>
+ *     <li>{@code tioh.validation.logging.masking} : 주민등록번호, 모바일번호 마스킹 (기본 true)</li>
+ * </ul>
+ */
+public final class LoggingPolicy {
+
+    private static volatile boolean enabled  = Boolean.getBoolean("tioh.validation.logging");
+    private static volatile int     sampling = Math.max(1, Integer.getInteger("tioh.validation.logging.sampling", 1));
+    private static volatile boolean masking  = Boolean.parseBoolean(System.getProperty("tioh.validation.logging.masking", "true"));
+
+    private LoggingPolicy() {
+    }
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param n N 번에 한 번만 기록 (1 이면 모두 기록)
+     */
+    public static void setSampling(int n) {
+        if (n < 1) throw new IllegalArgumentException(String.format("Sampling must be positive: %d", n));
+        sampling = n;
+    }
+
+    public static int getSampling() {
+        return sampling;
+    }
+
+    /**
+     * @param mask 주민등록번호, 모바일번호 마스킹 여부
+     */
+    public static void setMasking(boolean mask) {
+        masking = mask;
+    }
+
+    public static boolean isMasking() {
+        return masking;
+    }
+}
@@ -0,0 +1,181 @@
+package com.tioh.validation;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 구분자('-', ' ')를 제거한 입력을 담는 스레드별 재사용 버퍼
+ * <p>
+ * 입력을 한 번만 순회하면서 구분자를 건너뛰고 숫자가 아닌 첫 문자의 위치를 기록한다.
+ * 검증 가능한 최대 길이를 넘는 입력은 길이만 세고 내용은 {@link #CAPACITY} 까지만 보관한다.
+ */
+final class NumberBuffer implements CharSequence {
+
+    static final int CAPACITY = 32;
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private static final ThreadLocal<NumberBuffer> BUFFER = ThreadLocal.withInitial(NumberBuffer::new);
+
+    private final char[] chars = new char[CAPACITY];
+    private int length;
+    private int nonDigit;
+    private int position;
+
+    private NumberBuffer() {
+    }
+
+    static NumberBuffer of(CharSequence ctx) {
+        return BUFFER.get().normalize(ctx);
+    }
+
+    static NumberBuffer from(CharSequence ctx) {
+        return ctx instanceof NumberBuffer ? (NumberBuffer) ctx : of(ctx);
+    }
+
+    /**
+     * UTF-8 로 인코딩된 입력을 정규화한다. 잘못된 바이트는 U+FFFD 로 대체한다.
+     */
+    static NumberBuffer of(byte[] bytes, int offset, int length) {
+        return BUFFER.get().normalize(bytes, offset, length);
+    }
+
+    /**
+     * UTF-8 로 인코딩된 입력({@code position} 부터 {@code limit} 까지)을 정규화한다. 버퍼의 위치는 바꾸지 않는다.
+     */
+    static NumberBuffer of(ByteBuffer buffer) {
+        return BUFFER.get().normalize(buffer);
+    }
+
+    private NumberBuffer normalize(CharSequence ctx) {
+        clear();
+        for (int i = 0, n = ctx.length(); i < n; i++) {
+            append(ctx.charAt(i));
+        }
+        return this;
+    }
+
+    private NumberBuffer normalize(byte[] bytes, int offset, int length) {
+        clear();
+        int end = offset + length;
+        int i   = offset;
+        while (i < end) {
+            byte b = bytes[i];
+            if (b >= 0) {
+                append((char) b);
+                i += 1;
+            } else {
+                i += decode(b, i + 1 < end ? bytes[i + 1] : 0, i + 2 < end ? bytes[i + 2] : 0);
+            }
+        }
+        return this;
+    }
+
+    private NumberBuffer normalize(ByteBuffer buffer) {
+        clear();
+        int end = buffer.limit();
+        int i   = buffer.position();
+        while (i < end) {
+            byte b = buffer.get(i);
+            if (b >= 0) {
+                append((char) b);
+                i += 1;
+            } else {
+                i += decode(b, i + 1 < end ? buffer.get(i + 1) : 0, i + 2 < end ? buffer.get(i + 2) : 0);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * ASCII 가 아닌 UTF-8 문자 하나를 추가한다. (입력 끝을 넘는 바이트는 0)
+     *
+     * @return 사용한 바이트 수
+     */
+    private int decode(byte first, byte second, byte third) {
+        int b = first & 0xFF;
+        if (b >= 0xC2 && b < 0xE0 && isContinuation(second)) {
+            append((char) (((b & 0x1F) << 6) | (second & 0x3F)));
+            return 2;
+        }
+        if (b >= 0xE0 && b < 0xF0 && isContinuation(second) && isContinuation(third)) {
+            append((char) (((b & 0x0F) << 12) | ((second & 0x3F) << 6) | (third & 0x3F)));
+            return 3;
+        }
+        append(REPLACEMENT);
+        return 1;
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private void clear() {
+        length = 0;
+        nonDigit = -1;
+        position = -1;
+    }
+
+    private void append(char c) {
+        if (c == '-' || c == ' ') return;
+        if (length < CAPACITY) chars[length] = c;
+        if (nonDigit < 0 && (c < '0' || c > '9')) nonDigit = length;
+        length++;
+    }
+
+    /**
+     * @return 모든 문자가 숫자이면 true
+     */
+    boolean isDigits() {
+        return length > 0 && nonDigit < 0;
+    }
+
+    /**
+     * @return 숫자가 아닌 첫 문자의 위치, 없으면 -1
+     */
+    int nonDigit() {
+        return nonDigit;
+    }
+
+    /**
+     * 검증 단계에서 실패 위치를 기록한다.
+     *
+     * @param reason   실패 결과코드
+     * @param position 실패를 발견한 위치, 특정할 수 없으면 -1
+     * @return reason
+     */
+    Reason reject(Reason reason, int position) {
+        this.position = position;
+        return reason;
+    }
+
+    /**
+     * @return 마지막으로 기록된 실패 위치, 없으면 -1
+     */
+    int position() {
+        return position;
+    }
+
+    int digit(int index) {
+        return chars[index] - '0';
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(chars, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, Math.min(length, CAPACITY));
+    }
+}
@@ -1,52 +1,147 @@
 package com.tioh.validation;
 
 import com.tioh.validation.exceptions.PhoneNumberFormatException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.function.Function;
-import java.util.regex.Pattern;
+import java.util.function.IntPredicate;
 
 class PhoneNumber extends IValidatorRegistrationNumber {
 
-    private Logger  logger = LoggerFactory.getLogger(PhoneNumber.class);
-    private Pattern pattern;
-    Function<String, Boolean> lengthState = (str) -> str.length() == 10 || str.length() == 11;
+    private static final int MAX_STATES = 64;
+
+    /**
+     * 식별번호 트라이: {@code NEXT[상태 * 10 + 숫자]} = 다음 상태 (없으면 -1),
+     * {@code CATEGORIES[상태]}, {@code DEPTHS[상태]} = 식별번호가 끝나는 상태의 분류와 길이
+     */
+    private static final int[]                 NEXT       = new int[MAX_STATES * 10];
+    private static final PhoneNumberCategory[] CATEGORIES = new PhoneNumberCategory[MAX_STATES];
+    private static final int[]                 DEPTHS     = new int[MAX_STATES];
+
+    static {
+        Arrays.fill(NEXT, -1);
+        int states = 1;
+        for (PhoneNumberCategory category : PhoneNumberCategory.values()) {
+            for (String prefix : category.prefixes()) {
+                int state = 0;
+                for (int i = 0; i < prefix.length(); i++) {
+                    int index = state * 10 + prefix.charAt(i) - '0';
+                    if (NEXT[index] < 0) NEXT[index] = states++;
+                    state = NEXT[index];
+                }
+                CATEGORIES[state] = category;
+                DEPTHS[state] = prefix.length();
+            }
+        }
+    }
+
+    private static final ValidationLogger logger = ValidationLogger.masked(PhoneNumber.class, 3, 4);
+    IntPredicate lengthState = (length) -> length == 10 || length == 11;
     private PhoneNumber() {
         super();
         setName("Phone number");
-        this.pattern = Pattern.compile("^(0(?:2|1(?:0|1|[6-9])|[3-6][1-9]|[7-8][0]))\\d{7,8}$");
+        this.pipeline = Pipeline.builder()
+                .stage(ctx -> length(ctx, lengthState))
+                .stage(this::pattern)
+                .build();
     }
 
     private static class Singleton {
         private static final PhoneNumber instance = new PhoneNumber();
     }
 
-    static synchronized PhoneNumber getInstance() {
+    static PhoneNumber getInstance() {
         return Singleton.instance;
     }
 
-    boolean isValid(String num) {
+    @Override
+    Reason check(CharSequence num) {
 
         logger.debug("Validate {}: {}", name, num);
 
-        return checkEmpty()
-                .andThen(cleanNumber())
-                .andThen(checkLength(lengthState))
-                .andThen(checkPattern())
-                .apply(num);
+        return pipeline.check(num);
+    }
+
+    @Override
+    IllegalArgumentException formatException() {
+        return new PhoneNumberFormatException();
     }
 
     Function<String, Boolean> checkPattern() {
         return ctx -> {
-            try {
-                Integer.parseInt(ctx);
-                if (!pattern.matcher(ctx).matches()) throw new PhoneNumberFormatException();
-                return true;
-            } catch (NumberFormatException e) {
-                logger.debug("Phone number contains not a number. : {}", ctx);
-                throw e;
-            }
+            require(pattern(ctx), ctx);
+            return true;
         };
     }
+
+    Reason pattern(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        if (!ctx.isDigits()) {
+            // 이전 Integer.parseInt 검사와 같이 앞의 '+' 하나는 숫자로 보고 식별번호 오류로 처리
+            if (isSigned(ctx)) return ctx.reject(Reason.FORMAT, 0);
+            logger.debug("Phone number contains not a number. : {}", ctx);
+            return Reason.NOT_NUMERIC;
+        }
+        int state = prefix(ctx);
+        if (state < 0) return ctx.reject(Reason.FORMAT, ~state);
+        int rest = ctx.length() - DEPTHS[state];
+        return rest == 7 || rest == 8 ? Reason.VALID : ctx.reject(Reason.FORMAT, -1);
+    }
+
+    /**
+     * @return '+' 다음이 모두 숫자이면 true
+     */
+    private static boolean isSigned(NumberBuffer ctx) {
+        if (ctx.length() < 2 || ctx.nonDigit() != 0 || ctx.charAt(0) != '+') return false;
+        for (int i = 1, n = Math.min(ctx.length(), NumberBuffer.CAPACITY); i < n; i++) {
+            char c = ctx.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param digits 숫자로만 된 번호
+     * @return 식별번호 분류, 가입자번호가 7 ~ 8자리가 아니거나 식별번호가 없으면 null
+     */
+    static PhoneNumberCategory category(CharSequence digits) {
+        int state = prefix(digits);
+        if (state < 0) return null;
+        int rest = digits.length() - DEPTHS[state];
+        return rest == 7 || rest == 8 ? CATEGORIES[state] : null;
+    }
+
+    /**
+     * @param state 트라이 상태 (시작은 0)
+     * @param digit 숫자
+     * @return 다음 상태, 식별번호가 아니면 -1
+     */
+    static int next(int state, int digit) {
+        return NEXT[state * 10 + digit];
+    }
+
+    /**
+     * @param state 트라이 상태
+     * @return 식별번호가 끝나는 상태이면 식별번호 길이, 아니면 0
+     */
+    static int depth(int state) {
+        return DEPTHS[state];
+    }
+
+    /**
+     * 식별번호 트라이를 따라간다.
+     *
+     * @param digits 번호
+     * @return 식별번호가 끝나는 상태, 맞지 않으면 ~(어긋난 위치)
+     */
+    private static int prefix(CharSequence digits) {
+        int length = digits.length();
+        int state  = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || (state = NEXT[state * 10 + digit]) < 0) return ~i;
+            if (CATEGORIES[state] != null) return state;
+        }
+        return ~length;
+    }
 }
@@ -0,0 +1,74 @@
+package com.tioh.validation;
+
+/**
+ * 전화번호 식별번호(앞자리)별 분류
+ * <p>
+ * 010 은 번호이동으로 통신사를 알 수 없고, 011 / 016 ~ 019 는 최초 부여 통신사 기준이다.
+ */
+public enum PhoneNumberCategory {
+    MOBILE(Kind.MOBILE, "이동전화", "010"),
+    MOBILE_SK_TELECOM(Kind.MOBILE, "이동전화 (SK텔레콤)", "011", "017"),
+    MOBILE_KT(Kind.MOBILE, "이동전화 (KT)", "016", "018"),
+    MOBILE_LG_UPLUS(Kind.MOBILE, "이동전화 (LG U+)", "019"),
+    SEOUL(Kind.AREA, "서울", "02"),
+    GYEONGGI(Kind.AREA, "경기", "031"),
+    INCHEON(Kind.AREA, "인천", "032"),
+    GANGWON(Kind.AREA, "강원", "033"),
+    CHUNGNAM(Kind.AREA, "충남", "041"),
+    DAEJEON(Kind.AREA, "대전", "042"),
+    CHUNGBUK(Kind.AREA, "충북", "043"),
+    SEJONG(Kind.AREA, "세종", "044"),
+    BUSAN(Kind.AREA, "부산", "051"),
+    ULSAN(Kind.AREA, "울산", "052"),
+    DAEGU(Kind.AREA, "대구", "053"),
+    GYEONGBUK(Kind.AREA, "경북", "054"),
+    GYEONGNAM(Kind.AREA, "경남", "055"),
+    JEONNAM(Kind.AREA, "전남", "061"),
+    GWANGJU(Kind.AREA, "광주", "062"),
+    JEONBUK(Kind.AREA, "전북", "063"),
+    JEJU(Kind.AREA, "제주", "064"),
+    INTERNET(Kind.OTHER, "인터넷전화", "070"),
+    TOLL_FREE(Kind.OTHER, "수신자부담", "080");
+
+    private final Kind     kind;
+    private final String   description;
+    private final String[] prefixes;
+
+    PhoneNumberCategory(Kind kind, String description, String... prefixes) {
+        this.kind = kind;
+        this.description = description;
+        this.prefixes = prefixes;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return 식별번호 (0 포함)
+     */
+    public String[] getPrefixes() {
+        return prefixes.clone();
+    }
+
+    public boolean isMobile() {
+        return kind == Kind.MOBILE;
+    }
+
+    /**
+     * @return 지역번호 여부
+     */
+    public boolean isArea() {
+        return kind == Kind.AREA;
+    }
+
+    String[] prefixes() {
+        return prefixes;
+    }
+
+    private enum Kind {
+        MOBILE,
+        AREA,
+        OTHER
+    }
+}
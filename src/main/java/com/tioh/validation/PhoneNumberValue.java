@@ -0,0 +1,115 @@
+package com.tioh.validation;
+
+import java.util.Optional;
+
+/**
+ * 검증된 전화번호 (long 하나)
+ * <p>
+ * 전화번호는 항상 0 으로 시작하므로 숫자 값과 자릿수를 함께 보관한다. (자릿수 &lt;&lt; 40 | 값)
+ */
+public final class PhoneNumberValue {
+
+    private static final int  LENGTH_SHIFT = 40;
+    private static final long VALUE_MASK   = (1L << LENGTH_SHIFT) - 1;
+
+    private final long packed;
+
+    private PhoneNumberValue(long packed) {
+        this.packed = packed;
+    }
+
+    /**
+     * 검증 후 변환
+     *
+     * @param num 전화번호
+     * @return 전화번호
+     * @throws IllegalArgumentException 검증 실패 시 {@link Validator#mobilePhoneNumber(String)} 와 같은 예외
+     */
+    public static PhoneNumberValue parse(CharSequence num) {
+        return new PhoneNumberValue(encode(ValidationType.MOBILE_PHONE_NUMBER.normalize(num)));
+    }
+
+    /**
+     * 검증 후 변환 (예외 없음)
+     *
+     * @param num 전화번호
+     * @return 전화번호, 유효하지 않으면 empty
+     */
+    public static Optional<PhoneNumberValue> tryParse(CharSequence num) {
+        NumberBuffer ctx = ValidationType.MOBILE_PHONE_NUMBER.tryNormalize(num);
+        return ctx == null ? Optional.empty() : Optional.of(new PhoneNumberValue(encode(ctx)));
+    }
+
+    /**
+     * @param packed {@link #pack()} 값
+     * @return 전화번호
+     */
+    public static PhoneNumberValue unpack(long packed) {
+        long length = packed >>> LENGTH_SHIFT;
+        long value = packed & VALUE_MASK;
+        if (length < 2 || length > 18 || value >= pow10((int) length - 1)) {
+            throw new IllegalArgumentException(String.format("Not a packed phone number: %d", packed));
+        }
+        return new PhoneNumberValue(packed);
+    }
+
+    static long encode(NumberBuffer ctx) {
+        long value = 0;
+        for (int i = 0; i < ctx.length(); i++) {
+            value = value * 10 + ctx.digit(i);
+        }
+        return (long) ctx.length() << LENGTH_SHIFT | value;
+    }
+
+    private static long pow10(int n) {
+        long value = 1;
+        for (int i = 0; i < n; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    public long pack() {
+        return packed;
+    }
+
+    /**
+     * @return 하이픈 없는 번호
+     */
+    public String digits() {
+        int length = (int) (packed >>> LENGTH_SHIFT);
+        return String.format("%0" + length + "d", packed & VALUE_MASK);
+    }
+
+    /**
+     * @return 02-000-0000, 02-0000-0000, 000-000-0000, 000-0000-0000
+     */
+    public String format() {
+        String digits = digits();
+        int area = digits.startsWith("02") ? 2 : 3;
+        int middle = digits.length() - area - 4;
+        return digits.substring(0, area) + '-' + digits.substring(area, area + middle) + '-' + digits.substring(area + middle);
+    }
+
+    /**
+     * @return 식별번호 분류 (형식이 맞지 않는 번호를 {@link #unpack(long)} 한 경우 null)
+     */
+    public PhoneNumberCategory category() {
+        return PhoneNumber.category(digits());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof PhoneNumberValue && packed == ((PhoneNumberValue) o).packed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(packed);
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
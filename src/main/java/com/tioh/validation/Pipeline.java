@@ -0,0 +1,110 @@
+package com.tioh.validation;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 검증 단계를 미리 조립해 둔 불변 파이프라인
+ * <p>
+ * 입력이 비어있는지 확인하고 구분자를 제거한 뒤, 등록된 단계를 순서대로 실행하여 처음 실패한 결과코드를 반환한다.
+ * 조립은 생성 시 한 번만 이루어지므로 호출마다 함수 합성 비용이 들지 않는다.
+ *
+ * <pre>
+ * Pipeline pipeline = Pipeline.builder()
+ *         .stage(Stage.length(10))
+ *         .stage(Stage.businessRegistrationNumberChecksum())
+ *         .build();
+ * </pre>
+ */
+public final class Pipeline {
+
+    private final Stage[] stages;
+
+    private Pipeline(Stage[] stages) {
+        this.stages = stages;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 검증
+     *
+     * @param value 입력
+     * @return 결과코드
+     */
+    public Reason check(CharSequence value) {
+        if (StringUtils.isEmpty(value)) return Reason.EMPTY;
+        return run(NumberBuffer.from(value));
+    }
+
+    Reason check(byte[] bytes, int offset, int length) {
+        if (length == 0) return Reason.EMPTY;
+        return run(NumberBuffer.of(bytes, offset, length));
+    }
+
+    Reason check(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) return Reason.EMPTY;
+        return run(NumberBuffer.of(buffer));
+    }
+
+    /**
+     * 검증 (실패 위치 포함)
+     *
+     * @param type  결과에 담을 검증 종류
+     * @param value 입력
+     * @return 미리 만들어 둔 결과 (위치가 {@link NumberBuffer#CAPACITY} 이상인 경우만 새로 생성)
+     */
+    ValidationResult validate(ValidationType type, CharSequence value) {
+        if (StringUtils.isEmpty(value)) return ValidationResult.of(type, Reason.EMPTY, -1);
+        NumberBuffer ctx = NumberBuffer.from(value);
+        return ValidationResult.of(type, run(ctx), ctx.position());
+    }
+
+    /**
+     * 비어있는지 확인하지 않고 정규화된 입력에 단계만 실행
+     */
+    Reason run(NumberBuffer ctx) {
+        ctx.reject(Reason.VALID, -1);
+        for (Stage stage : stages) {
+            Reason reason = stage.apply(ctx);
+            if (!reason.isValid()) {
+                if (reason == Reason.NOT_NUMERIC && ctx.position() < 0) ctx.reject(reason, ctx.nonDigit());
+                return reason;
+            }
+        }
+        return Reason.VALID;
+    }
+
+    /**
+     * 검증
+     *
+     * @param value 입력
+     * @return true | false
+     */
+    public boolean isValid(CharSequence value) {
+        return check(value).isValid();
+    }
+
+    public static final class Builder {
+
+        private final List<Stage> stages = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder stage(Stage stage) {
+            stages.add(Objects.requireNonNull(stage, "stage"));
+            return this;
+        }
+
+        public Pipeline build() {
+            return new Pipeline(stages.toArray(new Stage[0]));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.tioh.validation;
+
+/**
+ * 검증 결과코드
+ * <p>
+ * 예외를 생성하지 않는 검증 API 에서 반환되며, 예외를 던지는 API 는 이 코드를 기존 예외로 변환한다.
+ */
+public enum Reason {
+    VALID,
+    EMPTY,
+    SIZE,
+    NOT_NUMERIC,
+    GENDER_CODE,
+    CHECKSUM,
+    FORMAT,
+    AREA_SIGN,
+    USAGE_SIGN,
+    ILLEGAL_CHAR;
+
+    private static final Reason[] VALUES = values();
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+
+    /**
+     * @return 일괄 검증 결과에 담기는 코드
+     */
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /**
+     * @param code {@link #code()} 로 얻은 코드
+     * @return 결과코드
+     */
+    public static Reason of(int code) {
+        return VALUES[code];
+    }
+}
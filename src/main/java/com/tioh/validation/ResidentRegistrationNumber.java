@@ -1,77 +1,153 @@
 package com.tioh.validation;
 
-import com.tioh.validation.exceptions.GenderCodeException;
 import com.tioh.validation.exceptions.ResidentRegistrationNumberFormatException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.function.Function;
-import java.util.stream.IntStream;
+import java.util.function.IntPredicate;
 
 class ResidentRegistrationNumber extends IValidatorRegistrationNumber {
 
-    private Logger        logger = LoggerFactory.getLogger(ResidentRegistrationNumber.class);
-    private List<Integer> genderCode;
-    private List<Integer> weightsTable;
-    Function<String, Boolean> lengthState = (str) -> str.length() == 13;
+    private static final int[]     WEIGHTS      = {2, 3, 4, 5, 6, 7, 8, 9, 2, 3, 4, 5};
+    private static final int[][]   WEIGHT_TABLE = weightTable();
+    private static final boolean[] GENDER_CODE  = {false, true, true, true, true, false, false, false, false, false};
+
+    private static final ValidationLogger logger = ValidationLogger.masked(ResidentRegistrationNumber.class, 7, 0);
+    IntPredicate lengthState = (length) -> length == 13;
 
     private ResidentRegistrationNumber() {
         super();
         setName("Resident registration number");
-        genderCode = Arrays.asList(1, 2, 3, 4);
-        weightsTable = Arrays.asList(2, 3, 4, 5, 6, 7, 8, 9, 2, 3, 4, 5);
+        this.pipeline = Pipeline.builder()
+                .stage(ctx -> length(ctx, lengthState))
+                .stage(this::genderCode)
+                .stage(this::checksum)
+                .build();
     }
 
     private static class Singleton {
         private static final ResidentRegistrationNumber instance = new ResidentRegistrationNumber();
     }
 
-    static synchronized ResidentRegistrationNumber getInstance() {
+    static ResidentRegistrationNumber getInstance() {
         return Singleton.instance;
     }
 
     @Override
-    boolean isValid(String rrn) {
+    Reason check(CharSequence rrn) {
 
         logger.debug("Validate Resident registration number: {}", rrn);
 
-        return checkEmpty()
-                .andThen(cleanNumber())
-                .andThen(checkLength(lengthState))
-                .andThen(checkGenderCode())
-                .andThen(validate())
-                .apply(rrn);
+        return pipeline.check(rrn);
+    }
+
+    @Override
+    IllegalArgumentException formatException() {
+        return new ResidentRegistrationNumberFormatException();
     }
 
     Function<String, Boolean>  validate() {
         return ctx -> {
-            try {
-                Long.parseLong(ctx);
-                int sum = IntStream.range(0, weightsTable.size())
-                        .map(i -> getInt(ctx.charAt(i)) * weightsTable.get(i))
-                        .sum();
-
-                int key    = 11;
-                int result = key - sum % key;
-                if (!(result == getInt(ctx.charAt(12)))) throw new ResidentRegistrationNumberFormatException();
-                return true;
-            } catch (NumberFormatException e) {
-                logger.debug("Resident registration number contains not a number. : {}",ctx);
-                throw e;
-            }
+            require(checksum(ctx), ctx);
+            return true;
         };
     }
 
+    Reason checksum(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        if (!ctx.isDigits()) {
+            logger.debug("Resident registration number contains not a number. : {}", ctx);
+            return Reason.NOT_NUMERIC;
+        }
+        if (ctx.length() != 13) return Reason.SIZE;
+
+        int[][] table = WEIGHT_TABLE;
+        int sum = table[0][ctx.digit(0)]
+                + table[1][ctx.digit(1)]
+                + table[2][ctx.digit(2)]
+                + table[3][ctx.digit(3)]
+                + table[4][ctx.digit(4)]
+                + table[5][ctx.digit(5)]
+                + table[6][ctx.digit(6)]
+                + table[7][ctx.digit(7)]
+                + table[8][ctx.digit(8)]
+                + table[9][ctx.digit(9)]
+                + table[10][ctx.digit(10)]
+                + table[11][ctx.digit(11)];
+
+        int key    = 11;
+        int result = key - sum % key;
+        return result == ctx.digit(12) ? Reason.VALID : ctx.reject(Reason.CHECKSUM, 12);
+    }
+
     Function<String, String> checkGenderCode() {
-        return ctx -> {
-            int genderCode = getInt(ctx.charAt(6));
-            if (!this.genderCode.contains(genderCode)) {
-                logger.debug("Wrong genderCode code for Resident registration number: {}", genderCode);
-                throw new GenderCodeException();
+        return ctx -> require(genderCode(ctx), ctx);
+    }
+
+    Reason genderCode(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        if (ctx.length() < 7) return Reason.SIZE;
+        int genderCode = ctx.digit(6);
+        if (genderCode < 0 || genderCode > 9) return ctx.reject(Reason.NOT_NUMERIC, 6);
+        if (!GENDER_CODE[genderCode]) {
+            logger.debug("Wrong genderCode code for Resident registration number: {}", genderCode);
+            return ctx.reject(Reason.GENDER_CODE, 6);
+        }
+        return Reason.VALID;
+    }
+
+    /**
+     * 앞 12자리로 검증번호 계산
+     *
+     * @param prefix 주민등록번호 앞 12자리
+     * @return 검증번호, 유효한 주민등록번호를 만들 수 없으면 (11 - 합 % 11 이 10 이상) -1
+     */
+    static int checkDigit(long prefix) {
+        if (prefix < 0 || prefix > 999_999_999_999L) return -1;
+        int sum = 0;
+        for (int idx = 11; idx >= 0; idx--, prefix /= 10) {
+            sum += WEIGHT_TABLE[idx][(int) (prefix % 10)];
+        }
+        int result = 11 - sum % 11;
+        return result < 10 ? result : -1;
+    }
+
+    /**
+     * @param genderCode 7번째 자리
+     * @return 성별코드 여부
+     */
+    static boolean isGenderCode(int genderCode) {
+        return genderCode >= 0 && genderCode <= 9 && GENDER_CODE[genderCode];
+    }
+
+    /**
+     * @param idx 자리 (0 ~ 12)
+     * @param c   문자
+     * @return 자리별 숫자 * 가중치 (검증번호 자리는 0), 숫자가 아니거나 7번째 자리가 성별코드가 아니면 -1
+     */
+    static int weight(int idx, char c) {
+        if (c < '0' || c > '9' || (idx == 6 && !isGenderCode(c - '0'))) return -1;
+        return idx < WEIGHTS.length ? WEIGHT_TABLE[idx][c - '0'] : 0;
+    }
+
+    /**
+     * @param sum 앞 12자리의 {@link #weight(int, char)} 합
+     * @param c   검증번호
+     * @return 검증번호 일치 여부
+     */
+    static boolean isCheckDigit(int sum, char c) {
+        return 11 - sum % 11 == c - '0';
+    }
+
+    /**
+     * 자리별 숫자 * 가중치
+     */
+    private static int[][] weightTable() {
+        int[][] table = new int[WEIGHTS.length][10];
+        for (int idx = 0; idx < WEIGHTS.length; idx++) {
+            for (int num = 0; num < 10; num++) {
+                table[idx][num] = num * WEIGHTS[idx];
             }
-            return ctx;
-        };
+        }
+        return table;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.tioh.validation;
+
+import java.util.Optional;
+
+/**
+ * 검증된 주민등록번호 (long 하나)
+ * <p>
+ * {@link #toString()} 은 뒷자리를 가린 값을 반환한다. 전체 번호는 {@link #format()} 으로 얻는다.
+ */
+public final class ResidentRegistrationNumberValue {
+
+    private final long value;
+
+    private ResidentRegistrationNumberValue(long value) {
+        this.value = value;
+    }
+
+    /**
+     * 검증 후 변환
+     *
+     * @param rrn 주민등록번호
+     * @return 주민등록번호
+     * @throws IllegalArgumentException 검증 실패 시 {@link Validator#residentRegistrationNumber(String)} 와 같은 예외
+     */
+    public static ResidentRegistrationNumberValue parse(CharSequence rrn) {
+        return new ResidentRegistrationNumberValue(encode(ValidationType.RESIDENT_REGISTRATION_NUMBER.normalize(rrn)));
+    }
+
+    /**
+     * 검증 후 변환 (예외 없음)
+     *
+     * @param rrn 주민등록번호
+     * @return 주민등록번호, 유효하지 않으면 empty
+     */
+    public static Optional<ResidentRegistrationNumberValue> tryParse(CharSequence rrn) {
+        NumberBuffer ctx = ValidationType.RESIDENT_REGISTRATION_NUMBER.tryNormalize(rrn);
+        return ctx == null ? Optional.empty() : Optional.of(new ResidentRegistrationNumberValue(encode(ctx)));
+    }
+
+    /**
+     * @param packed {@link #pack()} 값
+     * @return 주민등록번호
+     */
+    public static ResidentRegistrationNumberValue unpack(long packed) {
+        if (packed < 0 || packed > 9_999_999_999_999L || !ResidentRegistrationNumber.isGenderCode((int) (packed / 1_000_000 % 10))
+                || ResidentRegistrationNumber.checkDigit(packed / 10) != packed % 10) {
+            throw new IllegalArgumentException(String.format("Not a packed resident registration number: %d", packed));
+        }
+        return new ResidentRegistrationNumberValue(packed);
+    }
+
+    static long encode(NumberBuffer ctx) {
+        long value = 0;
+        for (int i = 0; i < 13; i++) {
+            value = value * 10 + ctx.digit(i);
+        }
+        return value;
+    }
+
+    public long pack() {
+        return value;
+    }
+
+    /**
+     * @return 성별 코드 (7번째 자리)
+     */
+    public int genderCode() {
+        return (int) (value / 1_000_000 % 10);
+    }
+
+    /**
+     * @return 000000-0000000
+     */
+    public String format() {
+        String digits = String.format("%013d", value);
+        return digits.substring(0, 6) + '-' + digits.substring(6);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof ResidentRegistrationNumberValue && value == ((ResidentRegistrationNumberValue) o).value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    /**
+     * @return 000000-0****** (생년월일, 성별 코드만 표시)
+     */
+    @Override
+    public String toString() {
+        return format().substring(0, 8) + "******";
+    }
+}
@@ -0,0 +1,103 @@
+package com.tioh.validation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 세그먼트로 나눈 LRU 검증 결과 캐시
+ * <p>
+ * 키의 해시로 세그먼트를 고르고 세그먼트 단위로만 잠그므로 서로 다른 세그먼트의 조회는 경합하지 않는다.
+ * 세그먼트마다 접근 순서 {@link LinkedHashMap} 을 두고 용량을 넘으면 가장 오래 조회되지 않은 항목을 버린다.
+ */
+final class ResultCache {
+
+    static final int MAX_SEGMENTS = 1 << 16;
+
+    private final Segment[] segments;
+    private final int       mask;
+    private final LongAdder hits   = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity 최대 항목 수
+     * @param concurrency 세그먼트 수 (2의 거듭제곱으로 올림, 최대 {@link #MAX_SEGMENTS})
+     */
+    ResultCache(int capacity, int concurrency) {
+        int count = Integer.highestOneBit(Math.max(1, Math.min(Math.min(concurrency, capacity), MAX_SEGMENTS)) * 2 - 1);
+        this.segments = new Segment[count];
+        this.mask = count - 1;
+        int segmentCapacity = (int) ((capacity + (long) count - 1) / count);
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    ValidationResult get(Object key) {
+        Segment segment = segment(key);
+        ValidationResult result;
+        synchronized (segment) {
+            result = segment.get(key);
+        }
+        (result == null ? misses : hits).increment();
+        return result;
+    }
+
+    void put(Object key, ValidationResult result) {
+        Segment segment = segment(key);
+        synchronized (segment) {
+            segment.put(key, result);
+        }
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    private Segment segment(Object key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return segments[h & mask];
+    }
+
+    private static final class Segment extends LinkedHashMap<Object, ValidationResult> {
+
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(Math.min(capacity, 1 << 12) * 4 / 3 + 1, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, ValidationResult> eldest) {
+            return size() > capacity;
+        }
+    }
+}
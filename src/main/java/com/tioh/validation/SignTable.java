@@ -0,0 +1,78 @@
+package com.tioh.validation;
+
+/**
+ * 한글 1~2음절 기호(용도기호, 지역명) 조회 테이블
+ * <p>
+ * 1음절 기호는 한글 음절(가~힣) 순번의 비트셋으로, 2음절 기호는 두 음절 순번을 합친 키의
+ * 충돌 없는 나머지 해시(perfect hash)로 찾는다. 조회 시 문자열을 만들지 않는다.
+ */
+final class SignTable {
+
+    static final char FIRST    = '가';
+    static final char LAST     = '힣';
+    static final int  SYLLABLE = LAST - FIRST + 1;
+
+    private final long[] single = new long[(SYLLABLE + 63) >>> 6];
+    private final int[]  pairs;
+
+    SignTable(String... signs) {
+        int count = 0;
+        for (String sign : signs) {
+            if (sign.length() == 2) count++;
+            else if (sign.length() == 1) single[syllable(sign.charAt(0)) >>> 6] |= 1L << syllable(sign.charAt(0));
+            else throw new IllegalArgumentException(String.format("Sign must be 1 or 2 syllables: %s", sign));
+        }
+        int[] keys = new int[count];
+        count = 0;
+        for (String sign : signs) {
+            if (sign.length() == 2) keys[count++] = key(sign.charAt(0), sign.charAt(1));
+        }
+        this.pairs = perfectHash(keys);
+    }
+
+    /**
+     * 기호 포함 여부
+     * @param ctx 입력
+     * @param offset 기호 시작위치
+     * @param length 기호 길이
+     * @return true | false
+     */
+    boolean contains(CharSequence ctx, int offset, int length) {
+        if (length == 1) {
+            int c = syllable(ctx.charAt(offset));
+            return c >= 0 && (single[c >>> 6] & 1L << c) != 0;
+        }
+        if (length != 2 || pairs.length == 0) return false;
+        int key = key(ctx.charAt(offset), ctx.charAt(offset + 1));
+        return key > 0 && pairs[key % pairs.length] == key;
+    }
+
+    private static int syllable(char c) {
+        return c >= FIRST && c <= LAST ? c - FIRST : -1;
+    }
+
+    /**
+     * 두 음절의 순번을 합친 키 (1 이상, 한글 음절이 아니면 -1)
+     */
+    private static int key(char c1, char c2) {
+        int s1 = syllable(c1);
+        int s2 = syllable(c2);
+        return s1 < 0 || s2 < 0 ? -1 : s1 * SYLLABLE + s2 + 1;
+    }
+
+    /**
+     * 키가 서로 다른 칸에 들어가는 가장 작은 테이블 크기를 찾는다. (빈 칸은 0)
+     */
+    private static int[] perfectHash(int[] keys) {
+        for (int size = Math.max(keys.length, 1); ; size++) {
+            int[] table = new int[size];
+            boolean perfect = true;
+            for (int i = 0; perfect && i < keys.length; i++) {
+                int slot = keys[i] % size;
+                perfect = table[slot] == 0 || table[slot] == keys[i];
+                table[slot] = keys[i];
+            }
+            if (perfect) return keys.length == 0 ? new int[0] : table;
+        }
+    }
+}
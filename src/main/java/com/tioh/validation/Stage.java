@@ -0,0 +1,131 @@
+package com.tioh.validation;
+
+/**
+ * 검증 파이프라인의 한 단계
+ * <p>
+ * 구분자가 제거된 입력을 받아 결과코드를 반환하며, 예외를 던지지 않는다.
+ */
+@FunctionalInterface
+public interface Stage {
+
+    /**
+     * @param ctx 구분자가 제거된 입력
+     * @return 결과코드
+     */
+    Reason apply(CharSequence ctx);
+
+    /**
+     * 길이 검증
+     *
+     * @param lengths 허용 길이
+     * @return 길이 검증 단계
+     */
+    static Stage length(int... lengths) {
+        int[] allowed = lengths.clone();
+        return ctx -> {
+            for (int length : allowed) {
+                if (ctx.length() == length) return Reason.VALID;
+            }
+            return Reason.SIZE;
+        };
+    }
+
+    /**
+     * 숫자 검증
+     *
+     * @return 숫자 검증 단계
+     */
+    static Stage digits() {
+        return ctx -> NumberBuffer.from(ctx).isDigits() ? Reason.VALID : Reason.NOT_NUMERIC;
+    }
+
+    /**
+     * 사업자번호 검증번호 검증
+     *
+     * @return 사업자번호 검증번호 검증 단계
+     */
+    static Stage businessRegistrationNumberChecksum() {
+        return BusinessRegistrationNumber.getInstance()::checksum;
+    }
+
+    /**
+     * 주민등록번호 성별코드 검증
+     *
+     * @return 주민등록번호 성별코드 검증 단계
+     */
+    static Stage residentRegistrationNumberGenderCode() {
+        return ResidentRegistrationNumber.getInstance()::genderCode;
+    }
+
+    /**
+     * 주민등록번호 검증번호 검증
+     *
+     * @return 주민등록번호 검증번호 검증 단계
+     */
+    static Stage residentRegistrationNumberChecksum() {
+        return ResidentRegistrationNumber.getInstance()::checksum;
+    }
+
+    /**
+     * 차량번호 단일 패스 검증 (형식 + 용도기호, 지역명)
+     *
+     * @return 차량번호 검증 단계
+     */
+    static Stage vehicleRegistrationNumber() {
+        return VehicleRegistrationNumber.getInstance()::plate;
+    }
+
+    /**
+     * 차량번호 용도기호, 지역명 검증
+     *
+     * @return 차량번호 용도기호, 지역명 검증 단계
+     */
+    static Stage vehicleRegistrationNumberSign() {
+        return VehicleRegistrationNumber.getInstance()::sign;
+    }
+
+    /**
+     * 차량번호 패턴 검증
+     *
+     * @return 차량번호 패턴 검증 단계
+     */
+    static Stage vehicleRegistrationNumberPattern() {
+        return VehicleRegistrationNumber.getInstance()::pattern;
+    }
+
+    /**
+     * 차대번호 패턴 검증
+     *
+     * @return 차대번호 패턴 검증 단계
+     */
+    static Stage vehicleIdentificationNumberPattern() {
+        return VehicleIdentificationNumber.getInstance()::pattern;
+    }
+
+    /**
+     * 차대번호 검증번호 검증
+     *
+     * @return 차대번호 검증번호 검증 단계
+     */
+    static Stage vehicleIdentificationNumberChecksum() {
+        return VehicleIdentificationNumber.getInstance()::checksum;
+    }
+
+    /**
+     * 차대번호 단일 패스 검증 (패턴 + 검증번호)
+     *
+     * @return 차대번호 검증 단계
+     */
+    static Stage vehicleIdentificationNumber() {
+        return VehicleIdentificationNumber.getInstance()::vin;
+    }
+
+    /**
+     * 모바일번호 패턴 검증
+     *
+     * @return 모바일번호 패턴 검증 단계
+     */
+    static Stage mobilePhoneNumberPattern() {
+        return PhoneNumber.getInstance()::pattern;
+    }
+}
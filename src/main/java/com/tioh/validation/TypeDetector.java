@@ -0,0 +1,99 @@
+package com.tioh.validation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 종류를 모르는 입력의 식별번호 종류 판별
+ * <p>
+ * 입력을 한 번 훑어 구분자를 뺀 길이, 문자 분류(숫자, 영문, 한글), 첫 글자로 가능한 종류를 정한 뒤
+ * 그 종류의 검증기만 실행한다. 다섯 검증기를 차례로 호출하며 예외를 잡는 방식보다 검증 횟수가 적고 예외를 만들지 않는다.
+ *
+ * <pre>
+ *  한글 포함, 7자 또는 9자    차량번호
+ *  영문/숫자 17자            차대번호
+ *  숫자 13자리               주민등록번호
+ *  숫자 10자리, 0 으로 시작   전화번호, 사업자번호 순
+ *  숫자 10자리               사업자번호
+ *  숫자 11자리, 0 으로 시작   전화번호
+ * </pre>
+ */
+public final class TypeDetector {
+
+    private static final List<ValidationType> NONE = Collections.emptyList();
+
+    private static final List<ValidationType> BUSINESS_REGISTRATION_NUMBER  = Collections.singletonList(ValidationType.BUSINESS_REGISTRATION_NUMBER);
+    private static final List<ValidationType> RESIDENT_REGISTRATION_NUMBER  = Collections.singletonList(ValidationType.RESIDENT_REGISTRATION_NUMBER);
+    private static final List<ValidationType> VEHICLE_REGISTRATION_NUMBER   = Collections.singletonList(ValidationType.VEHICLE_REGISTRATION_NUMBER);
+    private static final List<ValidationType> VEHICLE_IDENTIFICATION_NUMBER = Collections.singletonList(ValidationType.VEHICLE_IDENTIFICATION_NUMBER);
+    private static final List<ValidationType> MOBILE_PHONE_NUMBER           = Collections.singletonList(ValidationType.MOBILE_PHONE_NUMBER);
+    private static final List<ValidationType> PHONE_OR_BUSINESS             = Collections.unmodifiableList(Arrays.asList(
+            ValidationType.MOBILE_PHONE_NUMBER, ValidationType.BUSINESS_REGISTRATION_NUMBER));
+
+    private TypeDetector() {
+    }
+
+    /**
+     * @param value 입력
+     * @return 가능한 종류 (우선순위 순), 없으면 빈 목록
+     */
+    public static List<ValidationType> candidates(CharSequence value) {
+        if (value == null) return NONE;
+        int  length  = 0;
+        int  letters = 0;
+        int  hangul  = 0;
+        char first   = 0;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c == '-' || c == ' ') continue;
+            if (length++ == 0) first = c;
+            if (c >= '0' && c <= '9') continue;
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                letters++;
+            } else if (VehicleRegistrationNumber.isHangul(c)) {
+                hangul++;
+            } else {
+                return NONE;
+            }
+        }
+        if (hangul > 0) return letters == 0 && (length == 7 || length == 9) ? VEHICLE_REGISTRATION_NUMBER : NONE;
+        if (length == 17) return VEHICLE_IDENTIFICATION_NUMBER;
+        if (letters > 0) return NONE;
+        switch (length) {
+            case 13:
+                return RESIDENT_REGISTRATION_NUMBER;
+            case 10:
+                return first == '0' ? PHONE_OR_BUSINESS : BUSINESS_REGISTRATION_NUMBER;
+            case 11:
+                return first == '0' ? MOBILE_PHONE_NUMBER : NONE;
+            default:
+                return NONE;
+        }
+    }
+
+    /**
+     * @param value 입력
+     * @return 판별한 종류와 검증 결과 (가능한 종류 중 유효한 첫 종류, 모두 유효하지 않으면 첫 종류의 결과), 가능한 종류가 없으면 empty
+     */
+    public static Optional<ValidationResult> detect(CharSequence value) {
+        return detect(Validator.getInstance(), value);
+    }
+
+    /**
+     * @param validator 검증기 (캐시, 계측 검증기 등)
+     * @param value     입력
+     * @return 판별한 종류와 검증 결과, 가능한 종류가 없으면 empty
+     */
+    public static Optional<ValidationResult> detect(IValidator validator, CharSequence value) {
+        List<ValidationType> candidates = candidates(value);
+        ValidationResult     detected   = null;
+        for (int i = 0; i < candidates.size(); i++) {
+            ValidationResult result = validator.validate(candidates.get(i), value);
+            if (result.isValid()) return Optional.of(result);
+            if (detected == null) detected = result;
+        }
+        return Optional.ofNullable(detected);
+    }
+}
@@ -0,0 +1,93 @@
+package com.tioh.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link LoggingPolicy} 를 따르는 검증기 로거
+ * <p>
+ * 정책이 꺼져 있거나 DEBUG 레벨이 아니거나 샘플링에서 빠지면 아무 작업도 하지 않는다.
+ * 마스킹 대상 입력은 구분자를 뺀 앞 {@code prefix} 자리와 뒤 {@code suffix} 자리만 남기고 '*' 로 바꾼다.
+ */
+final class ValidationLogger {
+
+    private static final int UNMASKED = -1;
+
+    private final Logger logger;
+    private final int    prefix;
+    private final int    suffix;
+
+    private ValidationLogger(Logger logger, int prefix, int suffix) {
+        this.logger = logger;
+        this.prefix = prefix;
+        this.suffix = suffix;
+    }
+
+    static ValidationLogger of(Class<?> type) {
+        return new ValidationLogger(LoggerFactory.getLogger(type), UNMASKED, UNMASKED);
+    }
+
+    /**
+     * @param type 로거 이름
+     * @param prefix 마스킹하지 않을 앞자리 수
+     * @param suffix 마스킹하지 않을 뒷자리 수
+     * @return 마스킹 로거
+     */
+    static ValidationLogger masked(Class<?> type, int prefix, int suffix) {
+        return new ValidationLogger(LoggerFactory.getLogger(type), prefix, suffix);
+    }
+
+    boolean isDebugEnabled() {
+        if (!LoggingPolicy.isEnabled() || !logger.isDebugEnabled()) return false;
+        int sampling = LoggingPolicy.getSampling();
+        return sampling == 1 || ThreadLocalRandom.current().nextInt(sampling) == 0;
+    }
+
+    void debug(String format, Object arg) {
+        if (isDebugEnabled()) logger.debug(format, arg);
+    }
+
+    void debug(String format, Object arg1, Object arg2) {
+        if (isDebugEnabled()) logger.debug(format, arg1, arg2);
+    }
+
+    void debug(String format, CharSequence value) {
+        if (isDebugEnabled()) logger.debug(format, mask(value));
+    }
+
+    void debug(String format, Object arg, CharSequence value) {
+        if (isDebugEnabled()) logger.debug(format, arg, mask(value));
+    }
+
+    void debug(String format, Object arg1, Object arg2, CharSequence value) {
+        if (isDebugEnabled()) logger.debug(format, arg1, arg2, mask(value));
+    }
+
+    String mask(CharSequence value) {
+        if (value == null) return null;
+        if (prefix == UNMASKED || !LoggingPolicy.isMasking()) return value.toString();
+        int digits = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (!isSeparator(value.charAt(i))) digits++;
+        }
+        int tail = digits > prefix + suffix ? suffix : 0;
+        StringBuilder builder = new StringBuilder(value.length());
+        int position = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isSeparator(c)) {
+                builder.append(c);
+                continue;
+            }
+            builder.append(position < prefix || position >= digits - tail ? c : '*');
+            position++;
+        }
+        return builder.toString();
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == ' ';
+    }
+}
@@ -0,0 +1,313 @@
+package com.tioh.validation;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증 종류별 호출 수, 결과코드(예외 종류)별 건수, 지연시간 분포
+ * <p>
+ * 호출마다 결과코드 카운터({@link LongAdder}) 하나만 증가시키고, 지연시간은 {@code latencySampling} 번에 한 번만
+ * {@link LatencyHistogram} 에 기록한다. 계측 자체의 비용이 작아 운영 중에도 켜 둘 수 있다.
+ *
+ * <pre>
+ * ValidationMetrics metrics = new ValidationMetrics();
+ * IValidator validator = new InstrumentedValidator(Validator.getInstance(), metrics);
+ * metrics.register("default");
+ * ValidationMetrics.Snapshot snapshot = metrics.snapshot();
+ * </pre>
+ */
+public final class ValidationMetrics {
+
+    public static final int DEFAULT_LATENCY_SAMPLING = 16;
+
+    private static final ValidationType[] TYPES   = ValidationType.values();
+    private static final Reason[]         REASONS = Reason.values();
+
+    private final LongAdder[][]      counts     = new LongAdder[TYPES.length][REASONS.length];
+    private final LatencyHistogram[] histograms = new LatencyHistogram[TYPES.length];
+    private final int                samplingMask;
+
+    public ValidationMetrics() {
+        this(DEFAULT_LATENCY_SAMPLING);
+    }
+
+    /**
+     * @param latencySampling 지연시간 기록 간격 (1 이면 모든 호출, 2의 거듭제곱)
+     */
+    public ValidationMetrics(int latencySampling) {
+        if (latencySampling < 1 || Integer.bitCount(latencySampling) != 1) {
+            throw new IllegalArgumentException(String.format("Latency sampling must be a power of two: %d", latencySampling));
+        }
+        this.samplingMask = latencySampling - 1;
+        for (int i = 0; i < TYPES.length; i++) {
+            for (int j = 0; j < REASONS.length; j++) {
+                counts[i][j] = new LongAdder();
+            }
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * @return 이번 호출의 지연시간을 기록할지 여부
+     */
+    boolean sampled() {
+        return samplingMask == 0 || (ThreadLocalRandom.current().nextInt() & samplingMask) == 0;
+    }
+
+    void record(ValidationType type, Reason reason) {
+        counts[type.ordinal()][reason.ordinal()].increment();
+    }
+
+    void record(ValidationType type, Reason reason, long nanos) {
+        counts[type.ordinal()][reason.ordinal()].increment();
+        histograms[type.ordinal()].record(nanos);
+    }
+
+    void record(ValidationType type, byte[] reasons) {
+        long[] local = new long[REASONS.length];
+        for (byte reason : reasons) {
+            local[reason]++;
+        }
+        LongAdder[] adders = counts[type.ordinal()];
+        for (int i = 0; i < local.length; i++) {
+            if (local[i] != 0) adders[i].add(local[i]);
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < TYPES.length; i++) {
+            for (LongAdder adder : counts[i]) {
+                adder.reset();
+            }
+            histograms[i].reset();
+        }
+    }
+
+    /**
+     * 현재 값 복사 (기록 중인 값과 약간 어긋날 수 있음)
+     *
+     * @return 스냅샷
+     */
+    public Snapshot snapshot() {
+        long[][] values  = new long[TYPES.length][REASONS.length];
+        long[][] latency = new long[TYPES.length][];
+        long[]   total   = new long[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            for (int j = 0; j < REASONS.length; j++) {
+                values[i][j] = counts[i][j].sum();
+            }
+            latency[i] = histograms[i].counts();
+            total[i] = histograms[i].total();
+        }
+        return new Snapshot(values, latency, total);
+    }
+
+    /**
+     * 플랫폼 MBean 서버에 등록 ({@code com.tioh.validation:type=ValidationMetrics,name=<name>})
+     *
+     * @param name 이름
+     * @return 등록된 이름
+     */
+    public ObjectName register(String name) {
+        try {
+            ObjectName objectName = objectName(name);
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(new StandardMBean(new MBean(), ValidationMetricsMBean.class), objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException(String.format("Cannot register validation metrics: %s", name), e);
+        }
+    }
+
+    /**
+     * 플랫폼 MBean 서버에서 등록 해제
+     *
+     * @param name 이름
+     */
+    public void unregister(String name) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName(name));
+        } catch (JMException e) {
+            throw new IllegalStateException(String.format("Cannot unregister validation metrics: %s", name), e);
+        }
+    }
+
+    private static ObjectName objectName(String name) throws JMException {
+        Hashtable<String, String> properties = new Hashtable<>();
+        properties.put("type", "ValidationMetrics");
+        properties.put("name", ObjectName.quote(name));
+        return new ObjectName("com.tioh.validation", properties);
+    }
+
+    public static final class Snapshot {
+
+        private final long[][] counts;
+        private final long[][] latency;
+        private final long[]   latencyTotal;
+
+        private Snapshot(long[][] counts, long[][] latency, long[] latencyTotal) {
+            this.counts = counts;
+            this.latency = latency;
+            this.latencyTotal = latencyTotal;
+        }
+
+        /**
+         * @param type 검증 종류
+         * @return 호출 수
+         */
+        public long getCalls(ValidationType type) {
+            long calls = 0;
+            for (long count : counts[type.ordinal()]) {
+                calls += count;
+            }
+            return calls;
+        }
+
+        /**
+         * @param type 검증 종류
+         * @param reason 결과코드
+         * @return 결과코드가 나온 횟수
+         */
+        public long getCount(ValidationType type, Reason reason) {
+            return counts[type.ordinal()][reason.ordinal()];
+        }
+
+        public long getValid(ValidationType type) {
+            return getCount(type, Reason.VALID);
+        }
+
+        public long getInvalid(ValidationType type) {
+            return getCalls(type) - getValid(type);
+        }
+
+        /**
+         * @param type 검증 종류
+         * @return 실패 결과코드별 횟수 (0 인 항목 제외)
+         */
+        public Map<Reason, Long> getRejections(ValidationType type) {
+            Map<Reason, Long> rejections = new EnumMap<>(Reason.class);
+            for (Reason reason : REASONS) {
+                long count = getCount(type, reason);
+                if (!reason.isValid() && count != 0) rejections.put(reason, count);
+            }
+            return Collections.unmodifiableMap(rejections);
+        }
+
+        /**
+         * 예외 방식 API 에서 던져졌을(던져질) 예외 종류별 실패 횟수
+         *
+         * @param type 검증 종류
+         * @return 예외 종류별 횟수 (0 인 항목 제외)
+         */
+        public Map<Class<? extends IllegalArgumentException>, Long> getFailures(ValidationType type) {
+            Map<Class<? extends IllegalArgumentException>, Long> failures = new LinkedHashMap<>();
+            IValidatorRegistrationNumber validator = type.validator();
+            getRejections(type).forEach((reason, count) ->
+                    failures.merge(validator.exception(reason, "").getClass(), count, Long::sum));
+            return Collections.unmodifiableMap(failures);
+        }
+
+        /**
+         * @param type 검증 종류
+         * @return 지연시간을 기록한 호출 수
+         */
+        public long getLatencySamples(ValidationType type) {
+            long samples = 0;
+            for (long count : latency[type.ordinal()]) {
+                samples += count;
+            }
+            return samples;
+        }
+
+        /**
+         * @param type 검증 종류
+         * @return 평균 지연시간 (ns)
+         */
+        public double getMeanLatency(ValidationType type) {
+            long samples = getLatencySamples(type);
+            return samples == 0 ? 0 : (double) latencyTotal[type.ordinal()] / samples;
+        }
+
+        /**
+         * @param type 검증 종류
+         * @param percentile 백분위 (0 ~ 100)
+         * @return 지연시간 (ns, 구간 상한)
+         */
+        public long getLatency(ValidationType type, double percentile) {
+            return LatencyHistogram.percentile(latency[type.ordinal()], percentile);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            for (ValidationType type : TYPES) {
+                long calls = getCalls(type);
+                if (calls == 0) continue;
+                if (builder.length() > 0) builder.append(", ");
+                builder.append(type).append("{calls=").append(calls)
+                        .append(", valid=").append(getValid(type))
+                        .append(", rejections=").append(getRejections(type))
+                        .append(", p50=").append(getLatency(type, 50)).append("ns")
+                        .append(", p99=").append(getLatency(type, 99)).append("ns}");
+            }
+            return builder.toString();
+        }
+    }
+
+    private final class MBean implements ValidationMetricsMBean {
+
+        @Override
+        public long getCalls() {
+            Snapshot snapshot = snapshot();
+            long calls = 0;
+            for (ValidationType type : TYPES) {
+                calls += snapshot.getCalls(type);
+            }
+            return calls;
+        }
+
+        @Override
+        public long getInvalid() {
+            Snapshot snapshot = snapshot();
+            long invalid = 0;
+            for (ValidationType type : TYPES) {
+                invalid += snapshot.getInvalid(type);
+            }
+            return invalid;
+        }
+
+        @Override
+        public String getSummary() {
+            return snapshot().toString();
+        }
+
+        @Override
+        public long calls(String type) {
+            return snapshot().getCalls(ValidationType.valueOf(type));
+        }
+
+        @Override
+        public long count(String type, String reason) {
+            return snapshot().getCount(ValidationType.valueOf(type), Reason.valueOf(reason));
+        }
+
+        @Override
+        public long latency(String type, double percentile) {
+            return snapshot().getLatency(ValidationType.valueOf(type), percentile);
+        }
+
+        @Override
+        public void reset() {
+            ValidationMetrics.this.reset();
+        }
+    }
+}
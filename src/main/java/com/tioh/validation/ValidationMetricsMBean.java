@@ -0,0 +1,44 @@
+package com.tioh.validation;
+
+/**
+ * {@link ValidationMetrics} JMX 관리 인터페이스
+ */
+public interface ValidationMetricsMBean {
+
+    /**
+     * @return 전체 호출 수
+     */
+    long getCalls();
+
+    /**
+     * @return 전체 실패 수
+     */
+    long getInvalid();
+
+    /**
+     * @return 검증 종류별 요약
+     */
+    String getSummary();
+
+    /**
+     * @param type 검증 종류 ({@link ValidationType} 이름)
+     * @return 호출 수
+     */
+    long calls(String type);
+
+    /**
+     * @param type 검증 종류 ({@link ValidationType} 이름)
+     * @param reason 결과코드 ({@link Reason} 이름)
+     * @return 결과코드가 나온 횟수
+     */
+    long count(String type, String reason);
+
+    /**
+     * @param type 검증 종류 ({@link ValidationType} 이름)
+     * @param percentile 백분위 (0 ~ 100)
+     * @return 지연시간 (ns)
+     */
+    long latency(String type, double percentile);
+
+    void reset();
+}
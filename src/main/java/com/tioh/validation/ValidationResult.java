@@ -0,0 +1,118 @@
+package com.tioh.validation;
+
+/**
+ * 불변 검증 결과 (검증 종류, 결과코드, 실패 위치)
+ * <p>
+ * 종류, 결과코드, 위치(-1 ~ {@link NumberBuffer#CAPACITY} - 1) 조합마다 인스턴스를 미리 만들어 두고 재사용하므로
+ * 검증 실패를 반환할 때 객체를 생성하지 않으며 여러 스레드에서 공유할 수 있다.
+ * 위치는 구분자('-', ' ')를 제거한 입력 기준이며, 특정할 수 없으면(빈 값, 길이 오류 등) -1 이다.
+ *
+ * <pre>
+ * ValidationResult result = Validator.getInstance().validate(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-81-69428");
+ * if (!result.isValid()) {
+ *     // CHECKSUM at 9
+ * }
+ * </pre>
+ */
+public final class ValidationResult {
+
+    private static final ValidationType[] TYPES     = ValidationType.values();
+    private static final Reason[]         REASONS   = Reason.values();
+    private static final int              POSITIONS = NumberBuffer.CAPACITY + 1;
+
+    /**
+     * {@code RESULTS[종류][결과코드][위치 + 1]}
+     */
+    private static final ValidationResult[][][] RESULTS = results();
+
+    private final ValidationType type;
+    private final Reason         reason;
+    private final int            position;
+
+    private ValidationResult(ValidationType type, Reason reason, int position) {
+        this.type = type;
+        this.reason = reason;
+        this.position = position;
+    }
+
+    /**
+     * @param type     검증 종류
+     * @param reason   결과코드
+     * @param position 실패 위치 (-1 이면 특정할 수 없음, 유효하면 무시)
+     * @return 검증 결과
+     */
+    public static ValidationResult of(ValidationType type, Reason reason, int position) {
+        if (reason.isValid() || position < -1) position = -1;
+        if (position < POSITIONS - 1) return RESULTS[type.ordinal()][reason.ordinal()][position + 1];
+        return new ValidationResult(type, reason, position);
+    }
+
+    /**
+     * @param type 검증 종류
+     * @return 유효 결과
+     */
+    public static ValidationResult valid(ValidationType type) {
+        return RESULTS[type.ordinal()][Reason.VALID.ordinal()][0];
+    }
+
+    public ValidationType getType() {
+        return type;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * @return 실패를 발견한 위치 (구분자를 제거한 입력 기준), 특정할 수 없으면 -1
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    public boolean isValid() {
+        return reason.isValid();
+    }
+
+    /**
+     * 예외 방식 API 와 같은 예외로 변환
+     *
+     * @param value 검증한 입력 (예외 메시지용)
+     * @return 예외, 유효하면 null
+     */
+    public IllegalArgumentException exception(CharSequence value) {
+        return reason.isValid() ? null : type.validator().exception(reason, value);
+    }
+
+    private static ValidationResult[][][] results() {
+        ValidationResult[][][] results = new ValidationResult[TYPES.length][REASONS.length][];
+        for (ValidationType type : TYPES) {
+            for (Reason reason : REASONS) {
+                ValidationResult[] positions = new ValidationResult[reason.isValid() ? 1 : POSITIONS];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = new ValidationResult(type, reason, i - 1);
+                }
+                results[type.ordinal()][reason.ordinal()] = positions;
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ValidationResult)) return false;
+        ValidationResult that = (ValidationResult) o;
+        return type == that.type && reason == that.reason && position == that.position;
+    }
+
+    @Override
+    public int hashCode() {
+        return (type.ordinal() * 31 + reason.ordinal()) * 31 + position;
+    }
+
+    @Override
+    public String toString() {
+        return position < 0 ? type + " " + reason : type + " " + reason + " at " + position;
+    }
+}
@@ -0,0 +1,113 @@
+package com.tioh.validation;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 검증 대상 종류
+ */
+public enum ValidationType {
+    BUSINESS_REGISTRATION_NUMBER {
+        @Override
+        IValidatorRegistrationNumber validator() {
+            return BusinessRegistrationNumber.getInstance();
+        }
+
+        @Override
+        Reason check(IValidator validator, String value) {
+            return validator.checkBusinessRegistrationNumber(value);
+        }
+    },
+    RESIDENT_REGISTRATION_NUMBER {
+        @Override
+        IValidatorRegistrationNumber validator() {
+            return ResidentRegistrationNumber.getInstance();
+        }
+
+        @Override
+        Reason check(IValidator validator, String value) {
+            return validator.checkResidentRegistrationNumber(value);
+        }
+    },
+    VEHICLE_REGISTRATION_NUMBER {
+        @Override
+        IValidatorRegistrationNumber validator() {
+            return VehicleRegistrationNumber.getInstance();
+        }
+
+        @Override
+        Reason check(IValidator validator, String value) {
+            return validator.checkVehicleRegistrationNumber(value);
+        }
+    },
+    VEHICLE_IDENTIFICATION_NUMBER {
+        @Override
+        IValidatorRegistrationNumber validator() {
+            return VehicleIdentificationNumber.getInstance();
+        }
+
+        @Override
+        Reason check(IValidator validator, String value) {
+            return validator.checkVehicleIdentificationNumber(value);
+        }
+    },
+    MOBILE_PHONE_NUMBER {
+        @Override
+        IValidatorRegistrationNumber validator() {
+            return PhoneNumber.getInstance();
+        }
+
+        @Override
+        Reason check(IValidator validator, String value) {
+            return validator.checkMobilePhoneNumber(value);
+        }
+    };
+
+    abstract IValidatorRegistrationNumber validator();
+
+    /**
+     * 종류에 맞는 결과코드 메서드 호출
+     */
+    abstract Reason check(IValidator validator, String value);
+
+    /**
+     * @return 검증 파이프라인
+     */
+    public Pipeline pipeline() {
+        return validator().pipeline;
+    }
+
+    /**
+     * 검증 후 구분자를 제거한 입력 반환 (같은 스레드에서 다음 검증을 하기 전까지만 유효)
+     * <p>
+     * 빈 입력은 원래 입력으로만 판단한다. 구분자만 있는 입력은 검증기와 같이 길이 오류가 된다.
+     *
+     * @param value 입력
+     * @return 정규화된 입력
+     */
+    NumberBuffer normalize(CharSequence value) {
+        NumberBuffer ctx = StringUtils.isEmpty(value) ? null : NumberBuffer.of(value);
+        Reason reason = ctx == null ? Reason.EMPTY : pipeline().run(ctx);
+        if (!reason.isValid()) throw validator().exception(reason, value);
+        return ctx;
+    }
+
+    /**
+     * @param value 입력
+     * @return 정규화된 입력, 유효하지 않으면 null
+     */
+    NumberBuffer tryNormalize(CharSequence value) {
+        if (StringUtils.isEmpty(value)) return null;
+        NumberBuffer ctx = NumberBuffer.of(value);
+        return pipeline().run(ctx).isValid() ? ctx : null;
+    }
+
+    /**
+     * 검증 (예외 없이 결과코드 반환)
+     *
+     * @param value 입력
+     * @return 결과코드
+     */
+    public Reason check(CharSequence value) {
+        return validator().check(value);
+    }
+}
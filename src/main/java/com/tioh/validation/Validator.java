@@ -1,5 +1,9 @@
 package com.tioh.validation;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 public class Validator implements IValidator {
 
@@ -10,7 +14,7 @@ public class Validator implements IValidator {
         private static final Validator instance = new Validator();
     }
 
-    public static synchronized Validator getInstance() {
+    public static Validator getInstance() {
         return Singleton.instance;
     }
 
@@ -67,4 +71,162 @@ public class Validator implements IValidator {
     public boolean mobilePhoneNumber(String num) {
         return PhoneNumber.getInstance().isValid(num);
     }
+
+    /**
+     * 사업자번호 검증 (예외 없이 결과코드 반환)
+     *
+     * @param brn 사업자번호
+     * @return 결과코드
+     */
+    @Override
+    public Reason checkBusinessRegistrationNumber(String brn) {
+        return BusinessRegistrationNumber.getInstance().check(brn);
+    }
+
+    /**
+     * 주민등록번호 검증 (예외 없이 결과코드 반환)
+     *
+     * @param rrn 주민등록번호
+     * @return 결과코드
+     */
+    @Override
+    public Reason checkResidentRegistrationNumber(String rrn) {
+        return ResidentRegistrationNumber.getInstance().check(rrn);
+    }
+
+    /**
+     * 차량번호 검증 (예외 없이 결과코드 반환)
+     *
+     * @param vnr 차량번호
+     * @return 결과코드
+     */
+    @Override
+    public Reason checkVehicleRegistrationNumber(String vnr) {
+        return VehicleRegistrationNumber.getInstance().check(vnr);
+    }
+
+    /**
+     * 차대번호 검증 (예외 없이 결과코드 반환)
+     *
+     * @param vin 차대번호
+     * @return 결과코드
+     */
+    @Override
+    public Reason checkVehicleIdentificationNumber(String vin) {
+        return VehicleIdentificationNumber.getInstance().check(vin);
+    }
+
+    /**
+     * 모바일번호 검증 (예외 없이 결과코드 반환)
+     *
+     * @param num 모바일번호
+     * @return 결과코드
+     */
+    @Override
+    public Reason checkMobilePhoneNumber(String num) {
+        return PhoneNumber.getInstance().check(num);
+    }
+
+    /**
+     * 검증 (예외 없이 결과코드와 실패 위치 반환, 미리 만들어 둔 결과를 재사용)
+     *
+     * @param type  검증 대상 종류
+     * @param value 입력
+     * @return 검증 결과
+     */
+    @Override
+    public ValidationResult validate(ValidationType type, CharSequence value) {
+        return type.pipeline().validate(type, value);
+    }
+
+    /**
+     * 바이트 입력 검증 (문자열을 만들지 않고 UTF-8 로 읽어 검증)
+     *
+     * @param type   검증 대상 종류
+     * @param bytes  입력이 담긴 배열
+     * @param offset 입력 시작 위치
+     * @param length 입력 바이트 수
+     * @return 결과코드
+     */
+    @Override
+    public Reason check(ValidationType type, byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException(String.format("offset=%d, length=%d, size=%d", offset, length, bytes.length));
+        }
+        return type.pipeline().check(bytes, offset, length);
+    }
+
+    /**
+     * 바이트 입력 검증 ({@code position} 부터 {@code limit} 까지 UTF-8 로 읽어 검증, 버퍼의 위치는 바꾸지 않음)
+     *
+     * @param type   검증 대상 종류
+     * @param buffer 입력이 담긴 버퍼 (direct 버퍼 포함)
+     * @return 결과코드
+     */
+    @Override
+    public Reason check(ValidationType type, ByteBuffer buffer) {
+        return type.pipeline().check(buffer);
+    }
+
+    /**
+     * 일괄 검증
+     *
+     * @param type   검증 대상 종류
+     * @param values 입력 목록
+     * @return 입력 순서대로 담긴 결과코드 ({@link Reason#of(int)})
+     */
+    @Override
+    public byte[] validateAll(ValidationType type, List<? extends CharSequence> values) {
+        return BulkValidator.validate(type, values);
+    }
+
+    /**
+     * 일괄 검증
+     *
+     * @param type   검증 대상 종류
+     * @param values 입력 배열
+     * @return 입력 순서대로 담긴 결과코드 ({@link Reason#of(int)})
+     */
+    @Override
+    public byte[] validateAll(ValidationType type, CharSequence[] values) {
+        return BulkValidator.validate(type, values);
+    }
+
+    /**
+     * 일괄 병렬 검증
+     *
+     * @param type   검증 대상 종류
+     * @param values 입력 목록
+     * @param pool   분할 작업을 실행할 pool
+     * @return 입력 순서대로 담긴 결과코드 ({@link Reason#of(int)})
+     */
+    @Override
+    public byte[] validateAll(ValidationType type, List<? extends CharSequence> values, ForkJoinPool pool) {
+        return BulkValidator.validate(type, values, pool);
+    }
+
+    /**
+     * 일괄 병렬 검증
+     *
+     * @param type   검증 대상 종류
+     * @param values 입력 배열
+     * @param pool   분할 작업을 실행할 pool
+     * @return 입력 순서대로 담긴 결과코드 ({@link Reason#of(int)})
+     */
+    @Override
+    public byte[] validateAll(ValidationType type, CharSequence[] values, ForkJoinPool pool) {
+        return BulkValidator.validate(type, values, pool);
+    }
+
+    /**
+     * 스트림 검증
+     *
+     * @param type   검증 대상 종류
+     * @param values 입력 스트림
+     * @return 입력 순서대로의 결과코드 스트림
+     */
+    @Override
+    public Stream<Reason> validateAll(ValidationType type, Stream<? extends CharSequence> values) {
+        return BulkValidator.validate(type, values);
+    }
 }
@@ -0,0 +1,23 @@
+package com.tioh.validation;
+
+/**
+ * Vector API 가중합 (Java 8 용 스칼라 구현)
+ * <p>
+ * JDK 17 이상으로 빌드하면 multi-release JAR 의 {@code META-INF/versions/17} 에 Vector API 구현이 함께 들어간다.
+ */
+final class VectorChecksum {
+
+    private VectorChecksum() {
+    }
+
+    static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * {@link BatchChecksum#scalarSum(int[], int, int, int[], int[])} 와 같음
+     */
+    static void weightedSum(int[] digits, int stride, int lanes, int[] weights, int[] sums) {
+        BatchChecksum.scalarSum(digits, stride, lanes, weights, sums);
+    }
+}
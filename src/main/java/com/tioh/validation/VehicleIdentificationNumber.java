@@ -1,120 +1,199 @@
 package com.tioh.validation;
 
-import com.tioh.validation.exceptions.IllegalCharacterException;
 import com.tioh.validation.exceptions.VehicleIdentificationNumberFormatException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.AbstractMap;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
 import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.function.IntPredicate;
 
 class VehicleIdentificationNumber extends IValidatorRegistrationNumber {
 
-    private Logger logger = LoggerFactory.getLogger(VehicleIdentificationNumber.class);
+    private static final int    LENGTH          = 17;
+    private static final int    CHECK_DIGIT     = 8;
+    private static final int[]  WEIGHTS         = {8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final byte[] TRANSLITERATION = transliterationTable();
 
-    private List<Integer>        weightsTable;
-    private Map<String, Integer> transliterationTable;
-    private Pattern              pattern;
-    Function<String, Boolean> lengthState = (str) -> str.length() == 17;
+    /* 문자 분류(bit) : 숫자, 영문(I, O, Q 제외), 검사숫자 X */
+    private static final byte   DIGIT           = 1;
+    private static final byte   LETTER          = 2;
+    private static final byte   CHECK           = 4;
+    private static final byte[] CHARACTER_CLASS = characterClassTable();
+    private static final byte[] POSITION_CLASS  = positionClassTable();
+
+    private static final ValidationLogger logger = ValidationLogger.of(VehicleIdentificationNumber.class);
+    IntPredicate lengthState = (length) -> length == LENGTH;
 
     private VehicleIdentificationNumber() {
         super();
         setName("Vehicle identification number");
-        String regex = "^[A-HJ-NPR-Z\\d]{8}[\\dX][A-HJ-NPR-Z\\d]{2}\\d{6}$";
-        pattern = Pattern.compile(regex);
-        weightsTable = Arrays.asList(8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2);
-        transliterationTable = Stream.of(
-                new AbstractMap.SimpleImmutableEntry<>("0", 0),
-                new AbstractMap.SimpleImmutableEntry<>("1", 1),
-                new AbstractMap.SimpleImmutableEntry<>("2", 2),
-                new AbstractMap.SimpleImmutableEntry<>("3", 3),
-                new AbstractMap.SimpleImmutableEntry<>("4", 4),
-                new AbstractMap.SimpleImmutableEntry<>("5", 5),
-                new AbstractMap.SimpleImmutableEntry<>("6", 6),
-                new AbstractMap.SimpleImmutableEntry<>("7", 7),
-                new AbstractMap.SimpleImmutableEntry<>("8", 8),
-                new AbstractMap.SimpleImmutableEntry<>("9", 9),
-                new AbstractMap.SimpleImmutableEntry<>("A", 1),
-                new AbstractMap.SimpleImmutableEntry<>("B", 2),
-                new AbstractMap.SimpleImmutableEntry<>("C", 3),
-                new AbstractMap.SimpleImmutableEntry<>("D", 4),
-                new AbstractMap.SimpleImmutableEntry<>("E", 5),
-                new AbstractMap.SimpleImmutableEntry<>("F", 6),
-                new AbstractMap.SimpleImmutableEntry<>("G", 7),
-                new AbstractMap.SimpleImmutableEntry<>("H", 8),
-                new AbstractMap.SimpleImmutableEntry<>("J", 1),
-                new AbstractMap.SimpleImmutableEntry<>("K", 2),
-                new AbstractMap.SimpleImmutableEntry<>("L", 3),
-                new AbstractMap.SimpleImmutableEntry<>("M", 4),
-                new AbstractMap.SimpleImmutableEntry<>("N", 5),
-                new AbstractMap.SimpleImmutableEntry<>("P", 7),
-                new AbstractMap.SimpleImmutableEntry<>("R", 9),
-                new AbstractMap.SimpleImmutableEntry<>("S", 2),
-                new AbstractMap.SimpleImmutableEntry<>("T", 3),
-                new AbstractMap.SimpleImmutableEntry<>("U", 4),
-                new AbstractMap.SimpleImmutableEntry<>("V", 5),
-                new AbstractMap.SimpleImmutableEntry<>("W", 6),
-                new AbstractMap.SimpleImmutableEntry<>("X", 7),
-                new AbstractMap.SimpleImmutableEntry<>("Y", 8),
-                new AbstractMap.SimpleImmutableEntry<>("Z", 9))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        this.pipeline = Pipeline.builder()
+                .stage(ctx -> length(ctx, lengthState))
+                .stage(this::vin)
+                .build();
     }
 
     private static class Singleton {
         private static final VehicleIdentificationNumber instance = new VehicleIdentificationNumber();
     }
 
-    static synchronized VehicleIdentificationNumber getInstance() {
+    static VehicleIdentificationNumber getInstance() {
         return Singleton.instance;
     }
 
     @Override
-    boolean isValid(String vin) {
+    Reason check(CharSequence vin) {
+
+        logger.debug("Validate {}: {}", name, vin);
+
+        return pipeline.check(vin);
+    }
 
-        logger.info("Validate {}: {}", name, vin);
-        return checkEmpty()
-                .andThen(cleanNumber())
-                .andThen(checkLength(lengthState))
-                .andThen(checkPattern())
-                .andThen(validate())
-                .apply(vin);
+    @Override
+    IllegalArgumentException formatException() {
+        return new VehicleIdentificationNumberFormatException();
     }
 
     Function<String, Boolean> validate() {
         return ctx -> {
-            try {
-                String upperVin = ctx.toUpperCase();
-                int sum = IntStream.range(0, ctx.length())
-                        .map(i -> transliterationTable.get(Character.toString(upperVin.charAt(i))) * weightsTable.get(i))
-                        .sum();
-                int key    = 11;
-                int result = sum % key;
-
-                String checkDigit = Character.toString(upperVin.charAt(8));
-                if (!(result == 10 ? checkDigit.equals("X") : Integer.parseInt(checkDigit) == result))
-                    throw new VehicleIdentificationNumberFormatException();
-                return true;
-            } catch (NumberFormatException e) {
-                logger.debug("Check Digit({}) must be 'x' or number.", ctx.charAt(8));
-                throw e;
-            }
+            require(checksum(ctx), ctx);
+            return true;
         };
     }
 
+    /**
+     * 차대번호 단일 패스 검증 (문자 분류, 가중합, 검사숫자)
+     * @param value 차대번호
+     * @return 결과코드
+     */
+    Reason vin(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        if (ctx.length() != LENGTH) return Reason.SIZE;
+        int sum = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = ctx.charAt(i);
+            if (c >= 128 || (CHARACTER_CLASS[c] & POSITION_CLASS[i]) == 0) return illegalChar(ctx, i);
+            sum += TRANSLITERATION[c] * WEIGHTS[i];
+        }
+        return checkDigit(ctx, sum % 11);
+    }
+
+    Reason checksum(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        if (ctx.length() != LENGTH) return Reason.SIZE;
+        int sum = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = ctx.charAt(i);
+            if (c >= 128 || TRANSLITERATION[c] < 0) return ctx.reject(Reason.ILLEGAL_CHAR, i);
+            sum += TRANSLITERATION[c] * WEIGHTS[i];
+        }
+        return checkDigit(ctx, sum % 11);
+    }
+
+    private Reason checkDigit(NumberBuffer ctx, int result) {
+        char checkDigit = ctx.charAt(CHECK_DIGIT);
+        if (checkDigit == 'X' || checkDigit == 'x') return result == 10 ? Reason.VALID : ctx.reject(Reason.CHECKSUM, CHECK_DIGIT);
+        if (checkDigit < '0' || checkDigit > '9') {
+            logger.debug("Check Digit({}) must be 'x' or number.", checkDigit);
+            return ctx.reject(Reason.NOT_NUMERIC, CHECK_DIGIT);
+        }
+        return result == checkDigit - '0' ? Reason.VALID : ctx.reject(Reason.CHECKSUM, CHECK_DIGIT);
+    }
+
+    /**
+     * 검사숫자 계산 (검사숫자 자리는 가중치가 0 이므로 무시)
+     *
+     * @param vin 차대번호 17자리
+     * @return '0' ~ '9' 또는 'X', 음역할 수 없는 문자가 있으면 0
+     */
+    static char checkDigit(CharSequence vin) {
+        int sum = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            if (i == CHECK_DIGIT) continue;
+            char c = vin.charAt(i);
+            if (c >= 128 || TRANSLITERATION[c] < 0) return 0;
+            sum += TRANSLITERATION[c] * WEIGHTS[i];
+        }
+        int result = sum % 11;
+        return result == 10 ? 'X' : (char) ('0' + result);
+    }
+
+    /**
+     * @param idx 자리 (0 ~ 16)
+     * @param c   문자
+     * @return 음역값 * 가중치 (검사숫자 자리는 0), 자리에 허용되지 않는 문자이면 -1
+     */
+    static int weight(int idx, char c) {
+        if (c >= 128 || (CHARACTER_CLASS[c] & POSITION_CLASS[idx]) == 0) return -1;
+        return TRANSLITERATION[c] * WEIGHTS[idx];
+    }
+
+    /**
+     * @param sum {@link #weight(int, char)} 합
+     * @param c   검사숫자
+     * @return 검사숫자 일치 여부
+     */
+    static boolean isCheckDigit(int sum, char c) {
+        int result = sum % 11;
+        return c == 'X' || c == 'x' ? result == 10 : result == c - '0';
+    }
+
     Function<String, String> checkPattern() {
-        return ctx -> {
-            if (!pattern.matcher(ctx.toUpperCase()).matches()) {
-                logger.debug("Vehicle identification number contains Wrong character: {}", ctx);
-                throw new IllegalCharacterException();
-            }
-            return ctx;
-        };
+        return ctx -> require(pattern(ctx), ctx);
+    }
+
+    Reason pattern(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        if (ctx.length() != LENGTH) return illegalChar(ctx, -1);
+        for (int i = 0; i < LENGTH; i++) {
+            char c = ctx.charAt(i);
+            if (c >= 128 || (CHARACTER_CLASS[c] & POSITION_CLASS[i]) == 0) return illegalChar(ctx, i);
+        }
+        return Reason.VALID;
+    }
+
+    private Reason illegalChar(NumberBuffer ctx, int position) {
+        logger.debug("Vehicle identification number contains Wrong character: {}", ctx);
+        return ctx.reject(Reason.ILLEGAL_CHAR, position);
+    }
+
+    /**
+     * ASCII 문자별 음역값 (대소문자 동일, I, O, Q 및 그 외 문자는 -1)
+     */
+    private static byte[] transliterationTable() {
+        byte[] table = new byte[128];
+        Arrays.fill(table, (byte) -1);
+        for (char c = '0'; c <= '9'; c++) {
+            table[c] = (byte) (c - '0');
+        }
+        String letters = "ABCDEFGHJKLMNPRSTUVWXYZ";
+        byte[] values  = {1, 2, 3, 4, 5, 6, 7, 8, 1, 2, 3, 4, 5, 7, 9, 2, 3, 4, 5, 6, 7, 8, 9};
+        for (int i = 0; i < letters.length(); i++) {
+            char c = letters.charAt(i);
+            table[c] = values[i];
+            table[Character.toLowerCase(c)] = values[i];
+        }
+        return table;
+    }
+
+    private static byte[] characterClassTable() {
+        byte[] table = new byte[128];
+        for (char c = 0; c < 128; c++) {
+            if (TRANSLITERATION[c] < 0) continue;
+            table[c] = c <= '9' ? DIGIT : LETTER;
+        }
+        table['X'] |= CHECK;
+        table['x'] |= CHECK;
+        return table;
+    }
+
+    /**
+     * 자리별 허용 문자 : 1~8, 10~11 영문/숫자, 9 숫자/X, 12~17 숫자
+     */
+    private static byte[] positionClassTable() {
+        byte[] table = new byte[LENGTH];
+        Arrays.fill(table, (byte) (DIGIT | LETTER));
+        table[CHECK_DIGIT] = DIGIT | CHECK;
+        Arrays.fill(table, 11, LENGTH, DIGIT);
+        return table;
     }
 }
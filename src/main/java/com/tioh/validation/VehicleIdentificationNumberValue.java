@@ -0,0 +1,116 @@
+package com.tioh.validation;
+
+import java.util.Optional;
+
+/**
+ * 검증된 차대번호 (long 두 개)
+ * <p>
+ * 대문자로 바꾼 17자를 문자당 6bit(0~9 : 0~9, A~Z : 10~35)로 앞 10자는 {@code high}, 뒤 7자는 {@code low} 에 담는다.
+ */
+public final class VehicleIdentificationNumberValue {
+
+    private static final int LENGTH = 17;
+    private static final int SPLIT  = 10;
+    private static final int BITS   = 6;
+
+    private final long high;
+    private final long low;
+
+    private VehicleIdentificationNumberValue(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * 검증 후 변환
+     *
+     * @param vin 차대번호
+     * @return 차대번호
+     * @throws IllegalArgumentException 검증 실패 시 {@link Validator#vehicleIdentificationNumber(String)} 와 같은 예외
+     */
+    public static VehicleIdentificationNumberValue parse(CharSequence vin) {
+        return encode(ValidationType.VEHICLE_IDENTIFICATION_NUMBER.normalize(vin));
+    }
+
+    /**
+     * 검증 후 변환 (예외 없음)
+     *
+     * @param vin 차대번호
+     * @return 차대번호, 유효하지 않으면 empty
+     */
+    public static Optional<VehicleIdentificationNumberValue> tryParse(CharSequence vin) {
+        NumberBuffer ctx = ValidationType.VEHICLE_IDENTIFICATION_NUMBER.tryNormalize(vin);
+        return ctx == null ? Optional.empty() : Optional.of(encode(ctx));
+    }
+
+    /**
+     * @param high {@link #packHigh()} 값
+     * @param low {@link #packLow()} 값
+     * @return 차대번호
+     */
+    public static VehicleIdentificationNumberValue unpack(long high, long low) {
+        return parse(new VehicleIdentificationNumberValue(high, low).format());
+    }
+
+    private static VehicleIdentificationNumberValue encode(NumberBuffer ctx) {
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < SPLIT; i++) {
+            high = high << BITS | code(ctx.charAt(i));
+        }
+        for (int i = SPLIT; i < LENGTH; i++) {
+            low = low << BITS | code(ctx.charAt(i));
+        }
+        return new VehicleIdentificationNumberValue(high, low);
+    }
+
+    private static int code(char c) {
+        if (c <= '9') return c - '0';
+        return (c >= 'a' ? c - 'a' : c - 'A') + 10;
+    }
+
+    private static char character(long code) {
+        return (char) (code < 10 ? '0' + code : 'A' + code - 10);
+    }
+
+    public long packHigh() {
+        return high;
+    }
+
+    public long packLow() {
+        return low;
+    }
+
+    /**
+     * @return 대문자 17자
+     */
+    public String format() {
+        char[] chars = new char[LENGTH];
+        long mask = (1L << BITS) - 1;
+        for (int i = SPLIT - 1, rest = 0; i >= 0; i--, rest += BITS) {
+            chars[i] = character(high >>> rest & mask);
+        }
+        for (int i = LENGTH - 1, rest = 0; i >= SPLIT; i--, rest += BITS) {
+            chars[i] = character(low >>> rest & mask);
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VehicleIdentificationNumberValue)) return false;
+        VehicleIdentificationNumberValue that = (VehicleIdentificationNumberValue) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(high) + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -1,98 +1,134 @@
 package com.tioh.validation;
 
-import com.tioh.validation.exceptions.AreaSignException;
-import com.tioh.validation.exceptions.UsageSignException;
 import com.tioh.validation.exceptions.VehicleRegistrationNumberFormatException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.IntPredicate;
 
 class VehicleRegistrationNumber extends IValidatorRegistrationNumber {
 
-    private Logger logger = LoggerFactory.getLogger(VehicleRegistrationNumber.class);
+    static final String[] USAGE_SIGNS = {"가", "나", "다", "라", "마", "거", "너", "더", "러", "머", "버", "서", "어", "저", "고", "노", "도", "로", "모", "보", "소", "오", "조", "구", "누", "두", "루", "무", "부", "수", "우", "주", "바", "사", "아", "자", "허", "배", "호", "하", "준외", "준영", "국기", "협정"};
+    static final String[] AREA_SIGNS  = {"경기", "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주", "서울", "인천", "대전", "부산", "대구", "광주", "울산", "세종"};
 
-    private final List<String> USAGE_SIGN;
-    private final List<String> AREA_SIGN;
-    private final Pattern      pattern;
-    private final Pattern      pattern2;
-    Function<String, Boolean> lengthState = (str) -> str.length() == 7 || str.length() == 9;
+    static final SignTable USAGE_SIGN = new SignTable(USAGE_SIGNS);
+    static final SignTable AREA_SIGN  = new SignTable(AREA_SIGNS);
+
+    private static final ValidationLogger logger = ValidationLogger.of(VehicleRegistrationNumber.class);
+    IntPredicate lengthState = (length) -> length == 7 || length == 9;
 
     private VehicleRegistrationNumber() {
         super();
         setName("Vehicle registration number");
-        BinaryOperator<String> reduceOperator = (p1, p2) -> p1 + "|" + p2;
-        String regex = "^(\\d{2})([ㄱ-ㅎ|ㅏ-ㅣ|가-힣]{1,2})(\\d{4})$";
-        String regex2 = "^([ㄱ-ㅎ|ㅏ-ㅣ|가-힣]{2})(\\d{2})([ㄱ-ㅎ|ㅏ-ㅣ|가-힣]{1,2})(\\d{4})$";
-        USAGE_SIGN = Arrays.asList("가", "나", "다", "라", "마", "거", "너", "더", "러", "머", "버", "서", "어", "저", "고", "노", "도", "로", "모", "보", "소", "오", "조", "구", "누", "두", "루", "무", "부", "수", "우", "주", "바", "사", "아", "자", "허", "배", "호", "하", "준외", "준영", "국기", "협정");
-        AREA_SIGN = Arrays.asList("경기", "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주", "서울", "인천", "대전", "부산", "대구", "광주", "울산", "세종");
-        String usage   = USAGE_SIGN.stream().reduce(reduceOperator).orElse("");
-        String area   = AREA_SIGN.stream().reduce(reduceOperator).orElse("");
-        this.pattern = Pattern.compile(String.format(regex, usage));
-        this.pattern2 = Pattern.compile(String.format(regex2, area, usage));
+        this.pipeline = Pipeline.builder()
+                .stage(ctx -> length(ctx, lengthState))
+                .stage(this::plate)
+                .build();
     }
 
     private static class Singleton {
         private static final VehicleRegistrationNumber instance = new VehicleRegistrationNumber();
     }
 
-    static synchronized VehicleRegistrationNumber getInstance() {
+    static VehicleRegistrationNumber getInstance() {
         return Singleton.instance;
     }
 
 
     @Override
-    boolean isValid(String vrn) {
+    Reason check(CharSequence vrn) {
 
         logger.debug("Validate {}: {}", name, vrn);
 
-        return checkEmpty()
-                .andThen(cleanNumber())
-                .andThen(checkLength(lengthState))
-                .andThen(checkSign())
-                .andThen(checkPattern())
-                .apply(vrn);
+        return pipeline.check(vrn);
+    }
+
+    @Override
+    IllegalArgumentException formatException() {
+        return new VehicleRegistrationNumberFormatException();
     }
 
     Function<String, String> checkSign() {
-        return matcher(pattern, "$2", USAGE_SIGN)
-                .andThen(matcher(pattern2, "$3", USAGE_SIGN))
-                .andThen(matcher(pattern2, "$1", AREA_SIGN, AreaSignException.class));
+        return ctx -> require(sign(ctx), ctx);
     }
 
-    Function<String, String> matcher(Pattern pattern, String idx, List<String> signs, Class<? extends IllegalArgumentException> clazz) {
-        return ctx -> {
-            Matcher matcher = pattern.matcher(ctx);
-            if (matcher.matches()) {
-                String result = matcher.replaceAll(idx);
-                logger.debug("usage sign: {}", result);
-                try {
-                    if (!signs.contains(result)) {
-                        throw clazz.newInstance();
-                    }
-                } catch (InstantiationException | IllegalAccessException e) {
-                    logger.error("error: {}", e.getMessage());
-                }
-            }
-            return ctx;
-        };
+    /**
+     * 차량번호 단일 패스 검증 (형식, 용도기호, 지역명)
+     * @param value 차량번호
+     * @return 결과코드
+     */
+    Reason plate(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        int usage = usageOffset(ctx);
+        return usage < 0 ? ctx.reject(Reason.FORMAT, ctx.position()) : sign(ctx, usage);
+    }
+
+    Reason sign(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        int usage = usageOffset(ctx);
+        return usage < 0 ? Reason.VALID : sign(ctx, usage);
     }
 
-    Function<String, String> matcher(Pattern pattern, String idx, List<String> signs) {
-        return matcher(pattern, idx, signs, UsageSignException.class);
+    private Reason sign(NumberBuffer ctx, int usage) {
+        if (!USAGE_SIGN.contains(ctx, usage, ctx.length() - usage - 4)) {
+            logger.debug("Wrong usage sign: {}", ctx);
+            return ctx.reject(Reason.USAGE_SIGN, usage);
+        }
+        if (usage == 4 && !AREA_SIGN.contains(ctx, 0, 2)) {
+            logger.debug("Wrong area sign: {}", ctx);
+            return ctx.reject(Reason.AREA_SIGN, 0);
+        }
+        return Reason.VALID;
     }
 
     Function<String, Boolean> checkPattern() {
         return ctx -> {
-            if (!(pattern.matcher(ctx).matches() || pattern2.matcher(ctx).matches())) {
-                throw new VehicleRegistrationNumberFormatException();
-            }
+            require(pattern(ctx), ctx);
             return true;
         };
     }
+
+    Reason pattern(CharSequence value) {
+        NumberBuffer ctx = NumberBuffer.from(value);
+        return usageOffset(ctx) < 0 ? ctx.reject(Reason.FORMAT, ctx.position()) : Reason.VALID;
+    }
+
+    /**
+     * 차량번호 구문 분석 : [지역명 한글 2자] 숫자 2자리, 용도기호 한글 1~2자, 숫자 4자리
+     * @param ctx 차량번호
+     * @return 용도기호 시작위치 (지역명이 없으면 2, 있으면 4), 형식이 맞지 않으면 -1 (어긋난 위치는 {@link NumberBuffer#position()})
+     */
+    private int usageOffset(NumberBuffer ctx) {
+        int length = ctx.length();
+        if (length < 7 || length > 10) return mismatch("length", length, ctx);
+        int i = isHangul(ctx.charAt(0)) ? 2 : 0;
+        if (i == 2 && !isHangul(ctx.charAt(1))) return mismatch("area sign", 1, ctx);
+        if (!isDigit(ctx.charAt(i)) || !isDigit(ctx.charAt(i + 1))) return mismatch("number", i, ctx);
+        int usage = i + 2;
+        int end   = length - 4;
+        if (end - usage < 1 || end - usage > 2) return mismatch("usage sign", usage, ctx);
+        for (i = usage; i < end; i++) {
+            if (!isHangul(ctx.charAt(i))) return mismatch("usage sign", i, ctx);
+        }
+        for (; i < length; i++) {
+            if (!isDigit(ctx.charAt(i))) return mismatch("serial number", i, ctx);
+        }
+        return usage;
+    }
+
+    private int mismatch(String component, int index, NumberBuffer ctx) {
+        logger.debug("Wrong {} format at {}: {}", component, index, ctx);
+        ctx.reject(Reason.FORMAT, index < ctx.length() ? index : -1);
+        return -1;
+    }
+
+    /**
+     * 한글 문자 (자음 ㄱ~ㅎ, 모음 ㅏ~ㅣ, 음절 가~힣, 기존 정규식과 같이 '|' 포함)
+     */
+    static boolean isHangul(char c) {
+        return (c >= SignTable.FIRST && c <= SignTable.LAST) || (c >= 'ㄱ' && c <= 'ㅣ') || c == '|';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
 }
@@ -0,0 +1,23 @@
+package com.tioh.validation.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 차량번호 필드 (생성되는 DTO 검증기가 {@link com.tioh.validation.ValidationType#VEHICLE_REGISTRATION_NUMBER} 로 검증)
+ * <p>
+ * 문자열({@link CharSequence}) 필드 또는 인자 없는 메서드에 붙인다. private 필드는 getter 가 있어야 한다.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface VehicleRegistrationNumber {
+
+    /**
+     * @return true 이면 null 이나 빈 값은 검증하지 않음
+     */
+    boolean optional() default false;
+}
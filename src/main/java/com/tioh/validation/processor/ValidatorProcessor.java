@@ -0,0 +1,238 @@
+package com.tioh.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 식별번호 어노테이션이 붙은 DTO 마다 {@code com.tioh.validation.DtoValidator} 구현을 생성하는 어노테이션 프로세서
+ * <p>
+ * 생성된 {@code <클래스명>Validator} 는 DTO 와 같은 패키지에 있으며, 필드(private 이면 getter)를 직접 읽어
+ * {@code IValidator#validate(ValidationType, CharSequence)} 로 선언 순서대로 검증하고 실패한 필드만 모아 반환한다.
+ * 중첩 클래스는 {@code Outer_InnerValidator} 로 생성한다.
+ */
+@SupportedAnnotationTypes({
+        "com.tioh.validation.annotations.BusinessRegistrationNumber",
+        "com.tioh.validation.annotations.ResidentRegistrationNumber",
+        "com.tioh.validation.annotations.VehicleRegistrationNumber",
+        "com.tioh.validation.annotations.VehicleIdentificationNumber",
+        "com.tioh.validation.annotations.MobilePhoneNumber"
+})
+public class ValidatorProcessor extends AbstractProcessor {
+
+    private static final String PACKAGE = "com.tioh.validation.";
+
+    private static final Map<String, String> TYPES = new LinkedHashMap<>();
+
+    static {
+        TYPES.put("BusinessRegistrationNumber", "BUSINESS_REGISTRATION_NUMBER");
+        TYPES.put("ResidentRegistrationNumber", "RESIDENT_REGISTRATION_NUMBER");
+        TYPES.put("VehicleRegistrationNumber", "VEHICLE_REGISTRATION_NUMBER");
+        TYPES.put("VehicleIdentificationNumber", "VEHICLE_IDENTIFICATION_NUMBER");
+        TYPES.put("MobilePhoneNumber", "MOBILE_PHONE_NUMBER");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Map<TypeElement, List<Field>> dtos = new LinkedHashMap<>();
+        Set<Element> seen = new HashSet<>();
+        for (TypeElement annotation : annotations) {
+            String type = TYPES.get(annotation.getSimpleName().toString());
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (!seen.add(element)) continue;
+                Field field = field(element, type);
+                if (field != null) dtos.computeIfAbsent((TypeElement) element.getEnclosingElement(), k -> new ArrayList<>()).add(field);
+            }
+        }
+        dtos.forEach(this::generate);
+        return true;
+    }
+
+    /**
+     * @return 검증할 필드, 지원하지 않는 선언이면 오류를 보고하고 null
+     */
+    private Field field(Element element, String type) {
+        if (count(element) > 1) return error(element, "Only one identifier annotation is allowed");
+        if (element.getModifiers().contains(Modifier.STATIC)) return error(element, "Identifier annotation is not allowed on static members");
+        boolean optional = isOptional(element);
+        String  name     = element.getSimpleName().toString();
+        if (element.getKind() == ElementKind.METHOD) {
+            ExecutableElement method = (ExecutableElement) element;
+            if (!method.getParameters().isEmpty() || !isCharSequence(method.getReturnType())) {
+                return error(element, "Annotated method must take no arguments and return a CharSequence");
+            }
+            if (method.getModifiers().contains(Modifier.PRIVATE)) return error(element, "Annotated method must not be private");
+            return new Field(element, property(name), name + "()", type, optional);
+        }
+        if (!isCharSequence(element.asType())) return error(element, "Annotated field must be a CharSequence");
+        if (!element.getModifiers().contains(Modifier.PRIVATE)) return new Field(element, name, name, type, optional);
+        ExecutableElement getter = getter((TypeElement) element.getEnclosingElement(), name);
+        if (getter == null) return error(element, "Private field needs a non-private getter returning a CharSequence");
+        return new Field(element, name, getter.getSimpleName() + "()", type, optional);
+    }
+
+    private int count(Element element) {
+        int count = 0;
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotation.getQualifiedName().toString().startsWith(PACKAGE + "annotations.")
+                    && TYPES.containsKey(annotation.getSimpleName().toString())) count++;
+        }
+        return count;
+    }
+
+    private boolean isOptional(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("optional")) return (Boolean) entry.getValue().getValue();
+            }
+        }
+        return false;
+    }
+
+    private ExecutableElement getter(TypeElement type, String name) {
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            String methodName = method.getSimpleName().toString();
+            if ((methodName.equals("get" + capitalized) || methodName.equals(name))
+                    && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.PRIVATE)
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && isCharSequence(method.getReturnType())) return method;
+        }
+        return null;
+    }
+
+    private boolean isCharSequence(TypeMirror type) {
+        TypeMirror charSequence = processingEnv.getElementUtils().getTypeElement(CharSequence.class.getName()).asType();
+        return processingEnv.getTypeUtils().isAssignable(type, charSequence);
+    }
+
+    /**
+     * getBrn → brn
+     */
+    private static String property(String method) {
+        if (method.length() > 3 && method.startsWith("get") && Character.isUpperCase(method.charAt(3))) {
+            return Character.toLowerCase(method.charAt(3)) + method.substring(4);
+        }
+        return method;
+    }
+
+    private void generate(TypeElement dto, List<Field> fields) {
+        if (!dto.getTypeParameters().isEmpty()) {
+            error(dto, "Generic DTO types are not supported");
+            return;
+        }
+        if (dto.getModifiers().contains(Modifier.PRIVATE) || dto.getNestingKind() == NestingKind.LOCAL
+                || dto.getNestingKind() == NestingKind.ANONYMOUS) {
+            error(dto, "DTO must be a non-private top-level or member type");
+            return;
+        }
+        List<? extends Element> members = dto.getEnclosedElements();
+        fields.sort(Comparator.comparingInt(field -> members.indexOf(field.element)));
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(dto).getQualifiedName().toString();
+        String className   = className(dto) + "Validator";
+        String dtoName     = dto.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+        source.append("/**\n")
+              .append(" * {@link ").append(dtoName).append("} 검증기 (").append(getClass().getName()).append(" 가 생성)\n")
+              .append(" */\n")
+              .append("public final class ").append(className)
+              .append(" implements ").append(PACKAGE).append("DtoValidator<").append(dtoName).append("> {\n\n")
+              .append("    private final ").append(PACKAGE).append("IValidator validator;\n\n")
+              .append("    public ").append(className).append("() {\n")
+              .append("        this(").append(PACKAGE).append("Validator.getInstance());\n")
+              .append("    }\n\n")
+              .append("    public ").append(className).append("(").append(PACKAGE).append("IValidator validator) {\n")
+              .append("        this.validator = java.util.Objects.requireNonNull(validator, \"validator\");\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public java.util.List<").append(PACKAGE).append("FieldViolation> validate(").append(dtoName).append(" dto) {\n")
+              .append("        java.util.List<").append(PACKAGE).append("FieldViolation> violations = null;\n")
+              .append("        CharSequence value;\n")
+              .append("        ").append(PACKAGE).append("ValidationResult result;\n");
+        for (Field field : fields) {
+            String indent = field.optional ? "            " : "        ";
+            source.append("\n        value = dto.").append(field.accessor).append(";\n");
+            if (field.optional) source.append("        if (value != null && value.length() > 0) {\n");
+            source.append(indent).append("result = validator.validate(").append(PACKAGE).append("ValidationType.").append(field.type).append(", value);\n")
+                  .append(indent).append("if (!result.isValid()) violations = ").append(PACKAGE)
+                  .append("FieldViolation.add(violations, \"").append(field.name).append("\", result);\n");
+            if (field.optional) source.append("        }\n");
+        }
+        source.append("\n        return violations == null ? java.util.Collections.emptyList() : violations;\n")
+              .append("    }\n")
+              .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, dto).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException e) {
+            error(dto, "Cannot generate " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Outer.Inner → Outer_Inner
+     */
+    private static String className(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element enclosing = type.getEnclosingElement(); !(enclosing instanceof PackageElement); enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+        return name.toString();
+    }
+
+    private Field error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return null;
+    }
+
+    private static final class Field {
+
+        private final Element element;
+        private final String  name;
+        private final String  accessor;
+        private final String  type;
+        private final boolean optional;
+
+        private Field(Element element, String name, String accessor, String type, boolean optional) {
+            this.element = element;
+            this.name = name;
+            this.accessor = accessor;
+            this.type = type;
+            this.optional = optional;
+        }
+    }
+}
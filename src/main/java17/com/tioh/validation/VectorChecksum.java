@@ -0,0 +1,43 @@
+package com.tioh.validation;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API 가중합 (JDK 17 이상, {@code --add-modules jdk.incubator.vector} 필요)
+ * <p>
+ * 모듈 없이 실행하면 이 클래스를 초기화할 때 {@link LinkageError} 가 발생하고 {@link BatchChecksum} 은 스칼라 반복문을 쓴다.
+ */
+final class VectorChecksum {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private VectorChecksum() {
+    }
+
+    static boolean isSupported() {
+        return SPECIES.length() > 1;
+    }
+
+    /**
+     * {@code sums[lane] = Σ weights[idx] * digits[idx * stride + lane]}
+     */
+    static void weightedSum(int[] digits, int stride, int lanes, int[] weights, int[] sums) {
+        int bound = SPECIES.loopBound(lanes);
+        int lane  = 0;
+        for (; lane < bound; lane += SPECIES.length()) {
+            IntVector sum = IntVector.zero(SPECIES);
+            for (int idx = 0; idx < weights.length; idx++) {
+                sum = IntVector.fromArray(SPECIES, digits, idx * stride + lane).mul(weights[idx]).add(sum);
+            }
+            sum.intoArray(sums, lane);
+        }
+        for (; lane < lanes; lane++) {
+            int sum = 0;
+            for (int idx = 0; idx < weights.length; idx++) {
+                sum += weights[idx] * digits[idx * stride + lane];
+            }
+            sums[lane] = sum;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("비동기 검증 테스트")
+class AsyncValidatorTest {
+
+    /**
+     * 직접 실행할 때까지 작업을 쌓아두는 실행기
+     */
+    private static final class ManualExecutor implements Executor {
+
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int runAll() {
+            int count = 0;
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 일괄 검증 호출 횟수를 세는 검증기
+     */
+    private static IValidator counting(AtomicInteger batches) {
+        IValidator validator = Validator.getInstance();
+        return (IValidator) Proxy.newProxyInstance(IValidator.class.getClassLoader(), new Class<?>[]{IValidator.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("validateAll")) batches.incrementAndGet();
+                    return method.invoke(validator, args);
+                });
+    }
+
+    @DisplayName("단건 검증 테스트")
+    @Test
+    void check() throws Exception {
+        try (AsyncValidator validator = AsyncValidator.builder(Validator.getInstance()).build()) {
+            assertEquals(Reason.VALID, validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1058169429").get(5, TimeUnit.SECONDS));
+            assertEquals(Reason.CHECKSUM, validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, "0000000002").get(5, TimeUnit.SECONDS));
+            assertEquals(Reason.USAGE_SIGN, validator.check(ValidationType.VEHICLE_REGISTRATION_NUMBER, "09차0360").get(5, TimeUnit.SECONDS));
+            assertEquals(Reason.EMPTY, validator.check(ValidationType.MOBILE_PHONE_NUMBER, "").get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @DisplayName("일괄 검증 테스트")
+    @Test
+    void validateAll() throws Exception {
+        List<String> values = Arrays.asList("1058169429", "", "0000000002");
+        try (AsyncValidator validator = AsyncValidator.builder(Validator.getInstance()).virtualThreads().build()) {
+            byte[] expected = Validator.getInstance().validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, values);
+            assertArrayEquals(expected, validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, values).get(5, TimeUnit.SECONDS));
+            assertArrayEquals(expected, validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, values.toArray(new String[0])).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @DisplayName("요청 묶음 처리 테스트")
+    @Test
+    void coalesce() {
+        ManualExecutor executor = new ManualExecutor();
+        AtomicInteger batches = new AtomicInteger();
+        AsyncValidator validator = AsyncValidator.builder(counting(batches)).executor(executor).batchSize(32).build();
+        List<CompletableFuture<Reason>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, i % 2 == 0 ? "1058169429" : "0000000002"));
+        }
+        assertTrue(futures.stream().noneMatch(CompletableFuture::isDone));
+        assertEquals(1, executor.runAll());
+        assertEquals(4, batches.get());
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i % 2 == 0 ? Reason.VALID : Reason.CHECKSUM, futures.get(i).join());
+        }
+    }
+
+    @DisplayName("대기열 초과 거절 테스트")
+    @Test
+    void backpressure() {
+        ManualExecutor executor = new ManualExecutor();
+        AsyncValidator validator = AsyncValidator.builder(Validator.getInstance()).executor(executor).maxPending(10).build();
+        List<CompletableFuture<Reason>> futures = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            futures.add(validator.check(ValidationType.MOBILE_PHONE_NUMBER, "01012345678"));
+        }
+        ExecutionException e = assertThrows(ExecutionException.class, () -> futures.get(10).get());
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+        executor.runAll();
+        assertEquals(Reason.VALID, futures.get(9).join());
+
+        CompletableFuture<Reason> future = validator.check(ValidationType.MOBILE_PHONE_NUMBER, "01012345678");
+        executor.runAll();
+        assertEquals(Reason.VALID, future.join());
+    }
+
+    @DisplayName("실행기 거절 테스트")
+    @Test
+    void rejected() {
+        AsyncValidator validator = AsyncValidator.builder(Validator.getInstance())
+                .executor(command -> {
+                    throw new RejectedExecutionException("shutdown");
+                })
+                .build();
+        CompletableFuture<Reason> future = validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1058169429");
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+    }
+
+    @DisplayName("검증기 Error 전파 테스트")
+    @Test
+    void error() {
+        ManualExecutor executor = new ManualExecutor();
+        IValidator failing = (IValidator) Proxy.newProxyInstance(IValidator.class.getClassLoader(), new Class<?>[]{IValidator.class},
+                (proxy, method, args) -> {
+                    throw new StackOverflowError("validateAll");
+                });
+        AsyncValidator validator = AsyncValidator.builder(failing).executor(executor).build();
+        List<CompletableFuture<Reason>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1058169429"));
+        }
+        assertThrows(StackOverflowError.class, executor::runAll);
+        for (CompletableFuture<Reason> future : futures) {
+            ExecutionException e = assertThrows(ExecutionException.class, future::get);
+            assertTrue(e.getCause() instanceof StackOverflowError);
+        }
+    }
+
+    @DisplayName("검증 실패 후 남은 요청 처리 테스트")
+    @Test
+    void failedBatch() {
+        for (Throwable failure : new Throwable[]{new IllegalStateException("first"), new StackOverflowError("first")}) {
+            ManualExecutor executor = new ManualExecutor();
+            AtomicInteger  batches  = new AtomicInteger();
+            IValidator     validator = Validator.getInstance();
+            IValidator     failing   = (IValidator) Proxy.newProxyInstance(IValidator.class.getClassLoader(), new Class<?>[]{IValidator.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("validateAll") && batches.getAndIncrement() == 0) {
+                            if (failure instanceof Error) throw (Error) failure;
+                            throw (RuntimeException) failure;
+                        }
+                        return method.invoke(validator, args);
+                    });
+            AsyncValidator async = AsyncValidator.builder(failing).executor(executor).batchSize(4).build();
+            List<CompletableFuture<Reason>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(async.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1058169429"));
+            }
+            if (failure instanceof Error) {
+                assertThrows(StackOverflowError.class, executor::runAll);
+            } else {
+                executor.runAll();
+            }
+            assertTrue(futures.stream().allMatch(CompletableFuture::isDone));
+            for (int i = 0; i < futures.size(); i++) {
+                if (i < 4) {
+                    assertTrue(futures.get(i).isCompletedExceptionally());
+                } else {
+                    assertEquals(Reason.VALID, futures.get(i).join());
+                }
+            }
+            assertEquals(3, batches.get());
+        }
+    }
+
+    @DisplayName("실행기 설정 순서 테스트")
+    @Test
+    void executorOverride() {
+        ManualExecutor executor = new ManualExecutor();
+        try (AsyncValidator validator = AsyncValidator.builder(Validator.getInstance())
+                .virtualThreads()
+                .virtualThreads()
+                .executor(executor)
+                .build()) {
+            CompletableFuture<Reason> future = validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1058169429");
+            assertFalse(future.isDone());
+            assertEquals(1, executor.runAll());
+            assertEquals(Reason.VALID, future.join());
+        }
+    }
+
+    @DisplayName("동시 요청 테스트")
+    @Test
+    void concurrent() {
+        try (AsyncValidator validator = AsyncValidator.builder(Validator.getInstance()).batchSize(64).build()) {
+            List<CompletableFuture<Reason>> futures = new ArrayList<>();
+            IntStream.range(0, 20_000).parallel()
+                    .mapToObj(i -> validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1058169429"))
+                    .forEachOrdered(futures::add);
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            assertTrue(futures.stream().allMatch(f -> f.join() == Reason.VALID));
+        }
+    }
+
+    @DisplayName("설정 exception 테스트")
+    @Test
+    void illegalConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncValidator.builder(Validator.getInstance()).batchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> AsyncValidator.builder(Validator.getInstance()).maxPending(0));
+        assertThrows(NullPointerException.class, () -> AsyncValidator.builder(null));
+    }
+}
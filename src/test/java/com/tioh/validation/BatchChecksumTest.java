@@ -0,0 +1,90 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("일괄 검증번호 계산 테스트")
+class BatchChecksumTest {
+
+    private static Stream<Arguments> getBatch() {
+        return Stream.of(
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, 1),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, BatchChecksum.LANES),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, BatchChecksum.LANES * 3 + 17),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, 1),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, BatchChecksum.LANES),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, BatchChecksum.LANES * 3 + 17)
+        );
+    }
+
+    /**
+     * 숫자, 구분자, 잘못된 문자를 섞은 입력 (유효한 번호가 충분히 나오도록 마지막 자리를 검증번호로 맞춤)
+     */
+    private static CharSequence[] values(ValidationType type, int size, Random random) {
+        int length = type == ValidationType.BUSINESS_REGISTRATION_NUMBER ? 10 : 13;
+        CharSequence[] values = new CharSequence[size];
+        for (int i = 0; i < size; i++) {
+            StringBuilder builder = new StringBuilder();
+            int digits = random.nextInt(8) == 0 ? length + random.nextInt(3) - 1 : length;
+            for (int j = 0; j < digits; j++) {
+                builder.append((char) ('0' + random.nextInt(10)));
+                if (random.nextInt(16) == 0) builder.append(random.nextBoolean() ? '-' : ' ');
+            }
+            if (random.nextInt(16) == 0) builder.setCharAt(random.nextInt(builder.length()), 'a');
+            String value = builder.toString();
+            if (random.nextBoolean() && digits == length && value.matches("[0-9]+")) value = fix(type, value);
+            values[i] = random.nextInt(64) == 0 ? (random.nextBoolean() ? null : "") : value;
+        }
+        return values;
+    }
+
+    private static String fix(ValidationType type, String value) {
+        for (char c = '0'; c <= '9'; c++) {
+            String candidate = value.substring(0, value.length() - 1) + c;
+            if (type.pipeline().isValid(candidate)) return candidate;
+        }
+        return value;
+    }
+
+    @DisplayName("파이프라인과 결과 비교 테스트")
+    @ParameterizedTest(name = "{index} => type={0}, size={1}")
+    @MethodSource("getBatch")
+    void validate(ValidationType type, int size) {
+        Random random = new Random(size);
+        for (int round = 0; round < 20; round++) {
+            CharSequence[] values = values(type, size, random);
+            byte[] expected = new byte[size];
+            for (int i = 0; i < size; i++) {
+                expected[i] = type.pipeline().check(values[i]).code();
+            }
+            byte[] scalar = new byte[size];
+            BatchChecksum.validate(type, values, 0, size, scalar, false);
+            assertArrayEquals(expected, scalar);
+
+            byte[] vector = new byte[size];
+            BatchChecksum.validate(type, values, 0, size, vector, true);
+            assertArrayEquals(expected, vector);
+        }
+    }
+
+    @DisplayName("범위 검증 테스트")
+    @Test
+    void range() {
+        CharSequence[] values = {"1058169429", "105-86-94786", "1058169428", "0000000000", "10581694291"};
+        byte[] result = new byte[values.length];
+        BatchChecksum.validate(ValidationType.BUSINESS_REGISTRATION_NUMBER, values, 1, 4, result);
+        assertEquals(0, result[0]);
+        assertEquals(Reason.VALID, Reason.of(result[1]));
+        assertEquals(Reason.CHECKSUM, Reason.of(result[2]));
+        assertEquals(Reason.CHECKSUM, Reason.of(result[3]));
+        assertEquals(0, result[4]);
+    }
+}
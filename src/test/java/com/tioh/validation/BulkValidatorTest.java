@@ -0,0 +1,84 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("일괄 검증 테스트")
+class BulkValidatorTest {
+
+    private final IValidator validator = Validator.getInstance();
+
+    private final List<String> brn = Arrays.asList("1058169429", "105-86-94786", "", "10681971181", "01000000ab", "0000000002");
+
+    private final Reason[] brnReasons = {Reason.VALID, Reason.VALID, Reason.EMPTY, Reason.SIZE, Reason.NOT_NUMERIC, Reason.CHECKSUM};
+
+    private static Reason[] decode(byte[] codes) {
+        Reason[] reasons = new Reason[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            reasons[i] = Reason.of(codes[i]);
+        }
+        return reasons;
+    }
+
+    @DisplayName("목록 검증 테스트")
+    @Test
+    void validateList() {
+        assertArrayEquals(brnReasons, decode(validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, brn)));
+        assertArrayEquals(brnReasons, decode(validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, new LinkedList<>(brn))));
+    }
+
+    @DisplayName("배열 검증 테스트")
+    @Test
+    void validateArray() {
+        String[] values = brn.toArray(new String[0]);
+        assertArrayEquals(brnReasons, decode(validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, values)));
+    }
+
+    @DisplayName("스트림 검증 테스트")
+    @Test
+    void validateStream() {
+        List<Reason> reasons = validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, brn.stream())
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(brnReasons), reasons);
+    }
+
+    @DisplayName("병렬 검증 테스트")
+    @Test
+    void validateParallel() {
+        List<String> values = IntStream.range(0, BulkValidator.THRESHOLD * 5 + 7)
+                .mapToObj(i -> brn.get(i % brn.size()))
+                .collect(Collectors.toList());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            byte[] result = validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, values, pool);
+            assertEquals(values.size(), result.length);
+            for (int i = 0; i < result.length; i++) {
+                assertEquals(brnReasons[i % brnReasons.length], Reason.of(result[i]));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @DisplayName("종류별 검증 테스트")
+    @ParameterizedTest
+    @EnumSource(ValidationType.class)
+    void validateType(ValidationType type) {
+        String[] values = Stream.of("6407131018433", "09조0360", "wvwuk63b92p546818", "01000000000", "1058169429")
+                .toArray(String[]::new);
+        byte[] result = validator.validateAll(type, values);
+        assertEquals(1, IntStream.range(0, result.length).filter(i -> Reason.of(result[i]).isValid()).count());
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Random;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -94,4 +96,47 @@ class BusinessRegistrationNumberTest {
     void getNumberTransform(int idx, char c, int expectation) {
         assertEquals(BusinessRegistrationNumber.getInstance().getNumberTransform(idx, c), expectation);
     }
+
+    /**
+     * 조회 테이블 도입 전 구현
+     */
+    private static boolean reference(String ctx) {
+        BusinessRegistrationNumber instance = BusinessRegistrationNumber.getInstance();
+        int sum = IntStream.range(0, ctx.length())
+                .map(i -> instance.getNumberTransform(i, ctx.charAt(i)))
+                .sum();
+        int result = sum + instance.getInt(ctx.charAt(8)) * 5 / 10;
+        return result % 10 == 0 && result != 0;
+    }
+
+    @DisplayName("사업자번호 검증번호 기존 구현 비교 테스트")
+    @ParameterizedTest(name = "{index} => seed={0}")
+    @ValueSource(longs = {1L, 42L, 20191018L})
+    void checksumProperty(long seed) {
+        BusinessRegistrationNumber instance = BusinessRegistrationNumber.getInstance();
+        Random random = new Random(seed);
+        for (int n = 0; n < 20_000; n++) {
+            String prefix = String.format("%09d", random.nextInt(1_000_000_000));
+            for (int check = 0; check < 10; check++) {
+                String brn = prefix + check;
+                assertEquals(reference(brn), instance.checksum(brn).isValid(), brn);
+            }
+        }
+    }
+
+    @DisplayName("사업자번호 자리별 검증번호 전수 비교 테스트")
+    @ParameterizedTest(name = "{index} => idx={0}")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9})
+    void checksumExhaustivePosition(int idx) {
+        BusinessRegistrationNumber instance = BusinessRegistrationNumber.getInstance();
+        for (int num = 0; num < 10; num++) {
+            for (int check = 0; check < 10; check++) {
+                char[] brn = "0000000000".toCharArray();
+                brn[9] = (char) ('0' + check);
+                brn[idx] = (char) ('0' + num);
+                String value = new String(brn);
+                assertEquals(reference(value), instance.checksum(value).isValid(), value);
+            }
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package com.tioh.validation;
+
+import com.tioh.validation.exceptions.BusinessRegistrationNumberFormatException;
+import com.tioh.validation.exceptions.EmptyStringException;
+import com.tioh.validation.exceptions.SizeLimitException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("사업자번호 값 테스트")
+class BusinessRegistrationNumberValueTest {
+
+    @DisplayName("변환 / 형식 테스트")
+    @ParameterizedTest
+    @ValueSource(strings = {"1058169429", "105-81-69429", "1058694786", "1068197118"})
+    void parse(String brn) {
+        BusinessRegistrationNumberValue value = BusinessRegistrationNumberValue.parse(brn);
+        assertEquals(brn.replace("-", ""), value.digits());
+        assertEquals(value.digits().substring(0, 3) + "-" + value.digits().substring(3, 5) + "-" + value.digits().substring(5), value.format());
+        assertEquals(value, BusinessRegistrationNumberValue.tryParse(brn).orElse(null));
+        assertEquals(value, BusinessRegistrationNumberValue.unpack(value.pack()));
+        assertEquals(value.hashCode(), BusinessRegistrationNumberValue.parse(value.format()).hashCode());
+    }
+
+    private static Stream<Arguments> getInvalid() {
+        return Stream.of(
+                Arguments.of("", EmptyStringException.class),
+                Arguments.of("---", SizeLimitException.class),
+                Arguments.of(" - ", SizeLimitException.class),
+                Arguments.of("0000000002", BusinessRegistrationNumberFormatException.class),
+                Arguments.of("0000000000", BusinessRegistrationNumberFormatException.class),
+                Arguments.of("10681971181", SizeLimitException.class),
+                Arguments.of("가나다라123410", NumberFormatException.class)
+        );
+    }
+
+    @DisplayName("변환 exception 테스트")
+    @ParameterizedTest(name = "{index} => brn={0}, exception={1}")
+    @MethodSource("getInvalid")
+    void parseException(String brn, Class<? extends Throwable> exception) {
+        assertThrows(exception, () -> BusinessRegistrationNumberValue.parse(brn));
+        assertThrows(exception, () -> Validator.getInstance().businessRegistrationNumber(brn));
+        assertFalse(BusinessRegistrationNumberValue.tryParse(brn).isPresent());
+    }
+
+    @DisplayName("검증번호 / 검증기 일치 테스트")
+    @Test
+    void checkDigit() {
+        Random random = new Random(20191018);
+        for (int n = 0; n < 20_000; n++) {
+            int prefix = random.nextInt(1_000_000_000);
+            String brn = String.format("%09d%d", prefix, BusinessRegistrationNumber.checkDigit(prefix));
+            assertTrue(Validator.getInstance().checkBusinessRegistrationNumber(brn).isValid(), brn);
+            assertEquals(prefix, BusinessRegistrationNumberValue.parse(brn).pack());
+        }
+        assertEquals(-1, BusinessRegistrationNumber.checkDigit(0));
+        assertThrows(IllegalArgumentException.class, () -> BusinessRegistrationNumberValue.unpack(0));
+        assertThrows(IllegalArgumentException.class, () -> BusinessRegistrationNumberValue.unpack(1_000_000_000));
+    }
+}
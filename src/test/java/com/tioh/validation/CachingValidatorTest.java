@@ -0,0 +1,128 @@
+package com.tioh.validation;
+
+import com.tioh.validation.exceptions.BusinessRegistrationNumberFormatException;
+import com.tioh.validation.exceptions.UsageSignException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("결과 캐시 검증기 테스트")
+class CachingValidatorTest {
+
+    private final IValidator       validator = Validator.getInstance();
+    private final CachingValidator caching   = CachingValidator.builder(validator).build();
+
+    private static Stream<Arguments> getValues() {
+        return Stream.of(
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, Arrays.asList("1058169429", "105-81-69429", "0000000002", "", "10681971181", "01000000ab")),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, Arrays.asList("0101013000009", "010101-3000009", "0101015000007", "010101300000")),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, Arrays.asList("12가1234", "12 가 1234", "09차0360", "광명12가1234", "123가123")),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, Arrays.asList("WVWUK63B92P546818", "wvwuk63b92p546818", "WVWUK63B82P546818", "IVWUK63B92P546818")),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, Arrays.asList("01012345678", "010-1234-5678", "0100000000r", "01000"))
+        );
+    }
+
+    @DisplayName("캐시 결과 일치 테스트")
+    @ParameterizedTest(name = "{index} => type={0}")
+    @MethodSource("getValues")
+    void sameResult(ValidationType type, List<String> values) {
+        for (int round = 0; round < 3; round++) {
+            for (String value : values) {
+                assertEquals(type.check(validator, value), type.check(caching, value), value);
+            }
+        }
+        assertTrue(caching.getHits(type) > 0);
+        assertArrayEquals(validator.validateAll(type, values), caching.validateAll(type, values));
+        assertArrayEquals(validator.validateAll(type, values.toArray(new String[0])), caching.validateAll(type, values.toArray(new String[0])));
+        assertEquals(validator.validateAll(type, values.stream()).collect(Collectors.toList()),
+                caching.validateAll(type, values.stream()).collect(Collectors.toList()));
+    }
+
+    @DisplayName("적중 / 미적중 테스트")
+    @Test
+    void hitsAndMisses() {
+        assertTrue(caching.businessRegistrationNumber("1058169429"));
+        assertTrue(caching.businessRegistrationNumber("105-81-69429"));
+        assertThrows(BusinessRegistrationNumberFormatException.class, () -> caching.businessRegistrationNumber("0000000002"));
+        assertThrows(BusinessRegistrationNumberFormatException.class, () -> caching.businessRegistrationNumber("0000000002"));
+        assertThrows(UsageSignException.class, () -> caching.vehicleRegistrationNumber("09차0360"));
+        assertEquals(2, caching.getHits(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(2, caching.getMisses(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(2, caching.size(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(1, caching.size(ValidationType.VEHICLE_REGISTRATION_NUMBER));
+
+        caching.clear();
+        assertEquals(0, caching.size(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(0, caching.getHits(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+    }
+
+    @DisplayName("용량 / 비활성 테스트")
+    @Test
+    void capacity() {
+        CachingValidator small = CachingValidator.builder(validator)
+                .capacity(2)
+                .capacity(ValidationType.MOBILE_PHONE_NUMBER, 0)
+                .concurrency(1)
+                .build();
+        small.checkBusinessRegistrationNumber("1058169429");
+        small.checkBusinessRegistrationNumber("1058694786");
+        small.checkBusinessRegistrationNumber("1058169429");
+        small.checkBusinessRegistrationNumber("1058717995");
+        assertEquals(2, small.size(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        small.checkBusinessRegistrationNumber("1058169429");
+        assertEquals(2, small.getHits(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+
+        assertEquals(Reason.VALID, small.checkMobilePhoneNumber("01012345678"));
+        assertEquals(0, small.size(ValidationType.MOBILE_PHONE_NUMBER));
+        assertEquals(0, small.getMisses(ValidationType.MOBILE_PHONE_NUMBER));
+
+        assertThrows(IllegalArgumentException.class, () -> CachingValidator.builder(validator).capacity(-1));
+        assertThrows(IllegalArgumentException.class, () -> CachingValidator.builder(validator).concurrency(0));
+
+        CachingValidator large = CachingValidator.builder(validator)
+                .capacity(Integer.MAX_VALUE)
+                .concurrency(Integer.MAX_VALUE)
+                .build();
+        assertEquals(Reason.VALID, large.checkBusinessRegistrationNumber("1058169429"));
+        assertEquals(Reason.VALID, large.checkBusinessRegistrationNumber("1058169429"));
+        assertEquals(1, large.getHits(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(1, large.size(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+    }
+
+    @DisplayName("정규화 키 테스트")
+    @Test
+    void key() {
+        assertEquals(CachingValidator.key("105-81-69429"), CachingValidator.key("1058169429"));
+        assertNotEquals(CachingValidator.key("01"), CachingValidator.key("1"));
+        assertNotEquals(CachingValidator.key("0"), CachingValidator.key("00"));
+        assertEquals("12가1234", CachingValidator.key("12 가 1234"));
+        assertEquals("123456789012345678", CachingValidator.key("123456789012345678"));
+        assertNull(CachingValidator.key("123456789012345678901234567890123"));
+    }
+
+    @DisplayName("동시 조회 테스트")
+    @Test
+    void concurrent() {
+        CachingValidator shared = CachingValidator.builder(validator).capacity(64).build();
+        List<String> values = IntStream.range(0, 1000)
+                .mapToObj(i -> String.format("010%08d", i % 100))
+                .collect(Collectors.toList());
+        IntStream.range(0, 100).parallel().forEach(n -> {
+            for (String value : values) {
+                assertEquals(validator.checkMobilePhoneNumber(value), shared.checkMobilePhoneNumber(value));
+            }
+        });
+        assertTrue(shared.size(ValidationType.MOBILE_PHONE_NUMBER) <= 64 + 64);
+        assertEquals(100_000, shared.getHits(ValidationType.MOBILE_PHONE_NUMBER) + shared.getMisses(ValidationType.MOBILE_PHONE_NUMBER));
+    }
+}
@@ -0,0 +1,117 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("오타 교정 후보 테스트")
+class CorrectionsTest {
+
+    private final IValidator validator = Validator.getInstance();
+
+    private static Stream<Arguments> getSuggest() {
+        return Stream.of(
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-81-69428", "105-81-69429"),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-18-69429", "105-81-69429"),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1O58169429", "1058169429"),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "640713-1018434", "640713-1018433"),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "640713-0118433", "640713-1018433"),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "640713-5018433", "640713-1018433"),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B82P546818", "WVWUK63B92P546818"),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B92P546881", "WVWUK63B92P546818"),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B92P5468I8", "WVWUK63B92P546818")
+        );
+    }
+
+    @DisplayName("교정 후보 테스트")
+    @ParameterizedTest(name = "{index} => type={0}, value={1}, expected={2}")
+    @MethodSource("getSuggest")
+    void suggest(ValidationType type, String value, String expected) {
+        List<String> candidates = Corrections.suggest(type, value);
+        assertEquals(Reason.VALID, type.check(validator, expected));
+        assertTrue(candidates.contains(expected), candidates::toString);
+        assertEquals(bruteForce(type, value), new HashSet<>(candidates));
+        assertEquals(candidates.size(), new HashSet<>(candidates).size());
+        assertEquals(Collections.emptyList(), Corrections.suggest(type, expected));
+    }
+
+    @DisplayName("무작위 오타 테스트")
+    @ParameterizedTest(name = "{index} => type={0}")
+    @EnumSource(value = ValidationType.class, names = {"BUSINESS_REGISTRATION_NUMBER", "RESIDENT_REGISTRATION_NUMBER", "VEHICLE_IDENTIFICATION_NUMBER"})
+    void random(ValidationType type) {
+        IdentifierGenerator generator = IdentifierGenerator.builder(type).seed(3).build();
+        Random random = new Random(3);
+        String alphabet = type == ValidationType.VEHICLE_IDENTIFICATION_NUMBER ? "0123456789ABCDEFGHJKLMNPRSTUVWXYZIOQ" : "0123456789AO";
+        for (int n = 0; n < 300; n++) {
+            String expected = generator.get(n);
+            char[] chars = expected.toCharArray();
+            int position = random.nextInt(chars.length - 1);
+            if (random.nextBoolean()) {
+                char c = chars[position];
+                chars[position] = chars[position + 1];
+                chars[position + 1] = c;
+            } else {
+                chars[position] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            String value = new String(chars);
+            List<String> candidates = Corrections.suggest(type, value);
+            if (type.check(validator, value).isValid()) {
+                assertEquals(Collections.emptyList(), candidates);
+            } else {
+                assertTrue(candidates.contains(expected), () -> value + " " + candidates);
+                assertEquals(bruteForce(type, value), new HashSet<>(candidates), value);
+            }
+        }
+    }
+
+    @DisplayName("교정 불가 테스트")
+    @Test
+    void none() {
+        assertEquals(Collections.emptyList(), Corrections.suggest(ValidationType.BUSINESS_REGISTRATION_NUMBER, null));
+        assertEquals(Collections.emptyList(), Corrections.suggest(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105816942"));
+        assertEquals(Collections.emptyList(), Corrections.suggest(ValidationType.BUSINESS_REGISTRATION_NUMBER, "10581694291"));
+        assertEquals(Collections.emptyList(), Corrections.suggest(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1O58I69429"));
+        assertThrows(IllegalArgumentException.class, () -> Corrections.suggest(ValidationType.MOBILE_PHONE_NUMBER, "01012345678"));
+    }
+
+    /**
+     * 한 자리 치환, 인접 자리바꿈을 모두 검증기로 확인
+     */
+    private HashSet<String> bruteForce(ValidationType type, String value) {
+        String alphabet = type == ValidationType.VEHICLE_IDENTIFICATION_NUMBER ? "0123456789ABCDEFGHJKLMNPRSTUVWXYZ" : "0123456789";
+        List<String> variants = new ArrayList<>();
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '-') continue;
+            for (char c : alphabet.toCharArray()) {
+                if (c == value.charAt(i)) continue;
+                StringBuilder builder = new StringBuilder(value);
+                builder.setCharAt(i, c);
+                variants.add(builder.toString());
+            }
+            int j = i + 1 < value.length() && value.charAt(i + 1) == '-' ? i + 2 : i + 1;
+            if (j < value.length() && value.charAt(i) != value.charAt(j)) {
+                StringBuilder builder = new StringBuilder(value);
+                builder.setCharAt(i, value.charAt(j));
+                builder.setCharAt(j, value.charAt(i));
+                variants.add(builder.toString());
+            }
+        }
+        HashSet<String> valid = new HashSet<>();
+        for (String variant : variants) {
+            if (type.check(validator, variant).isValid()) valid.add(variant);
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,137 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("파일 검증 테스트")
+class FileValidatorTest {
+
+    private static final List<String> LINES = Arrays.asList(
+            "1058169429,09조0360,010-1234-5678",
+            "0000000002,09차0360,1100000000",
+            "105-86-94786,서울02가1111,0212345678\r",
+            ",광명12가1234,0100000000r",
+            "01000000ab",
+            "",
+            "10681971181,123가123,01000");
+
+    private static final List<String> EXPECTED = Arrays.asList(
+            "VALID,VALID,VALID",
+            "CHECKSUM,USAGE_SIGN,FORMAT",
+            "VALID,VALID,VALID",
+            "EMPTY,AREA_SIGN,NOT_NUMERIC",
+            "NOT_NUMERIC,EMPTY,EMPTY",
+            "EMPTY,EMPTY,EMPTY",
+            "SIZE,FORMAT,SIZE");
+
+    @TempDir
+    Path directory;
+
+    private FileValidator.Builder builder() {
+        return FileValidator.builder()
+                .column(0, ValidationType.BUSINESS_REGISTRATION_NUMBER)
+                .column(1, ValidationType.VEHICLE_REGISTRATION_NUMBER)
+                .column(2, ValidationType.MOBILE_PHONE_NUMBER);
+    }
+
+    @DisplayName("청크 크기별 검증 테스트")
+    @ParameterizedTest(name = "{index} => chunkSize={0}")
+    @ValueSource(ints = {1, 7, 64, 1 << 16})
+    void validate(int chunkSize) throws IOException {
+        List<String> lines    = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            lines.addAll(LINES);
+            expected.addAll(EXPECTED);
+        }
+        Path input  = directory.resolve("input.csv");
+        Path output = directory.resolve("output.csv");
+        Files.write(input, lines, StandardCharsets.UTF_8);
+
+        FileValidator.Summary summary = builder().threads(3).chunkSize(chunkSize).build().validate(input, output);
+
+        assertEquals(expected, Files.readAllLines(output, StandardCharsets.US_ASCII));
+        assertEquals(lines.size(), summary.getLines());
+        assertEquals(100, summary.getValid(0));
+        assertEquals(250, summary.getInvalid(0));
+        assertEquals(100, summary.getCount(0, Reason.EMPTY));
+        assertEquals(50, summary.getCount(1, Reason.AREA_SIGN));
+        assertEquals(50, summary.getCount(2, Reason.NOT_NUMERIC));
+    }
+
+    @DisplayName("헤더, 마지막 줄바꿈 없는 파일 테스트")
+    @Test
+    void validateHeader() throws IOException {
+        Path input  = directory.resolve("header.tsv");
+        Path output = directory.resolve("header.out");
+        Files.write(input, "brn\tname\n1058169429\tA\n0000000002\tB".getBytes(StandardCharsets.UTF_8));
+
+        FileValidator.Summary summary = FileValidator.builder()
+                .column(0, ValidationType.BUSINESS_REGISTRATION_NUMBER)
+                .delimiter('\t')
+                .skipHeader(true)
+                .threads(1)
+                .build()
+                .validate(input, output);
+
+        assertEquals(Arrays.asList("VALID", "CHECKSUM"), Files.readAllLines(output));
+        assertEquals(2, summary.getLines());
+        assertThrows(IllegalArgumentException.class, () -> summary.getValid(1));
+    }
+
+    @DisplayName("최대 길이를 넘는 줄 테스트")
+    @ParameterizedTest(name = "{index} => chunkSize={0}")
+    @ValueSource(ints = {1, 7, 64, 100, 1 << 16})
+    void validateTooLong(int chunkSize) throws IOException {
+        StringBuilder long1 = new StringBuilder();
+        StringBuilder long2 = new StringBuilder("1058169429,");
+        for (int i = 0; i < 300; i++) {
+            long1.append('x');
+            long2.append(i % 10);
+        }
+        Path input  = directory.resolve("long.csv");
+        Path output = directory.resolve("long.out");
+        Files.write(input, (long1 + "\n1058169429\n" + long2 + "\n" + long1 + long1 + "\n0000000002\n" + long2)
+                .getBytes(StandardCharsets.UTF_8));
+
+        FileValidator.Summary summary = FileValidator.builder()
+                .column(0, ValidationType.BUSINESS_REGISTRATION_NUMBER)
+                .column(1, ValidationType.MOBILE_PHONE_NUMBER)
+                .skipHeader(true)
+                .threads(2)
+                .chunkSize(chunkSize)
+                .maxLineLength(100)
+                .build()
+                .validate(input, output);
+
+        assertEquals(Arrays.asList("VALID,EMPTY", "SIZE,SIZE", "SIZE,SIZE", "CHECKSUM,EMPTY", "SIZE,SIZE"), Files.readAllLines(output));
+        assertEquals(5, summary.getLines());
+        assertEquals(3, summary.getCount(0, Reason.SIZE));
+        assertThrows(IllegalArgumentException.class, () -> FileValidator.builder().maxLineLength(0));
+    }
+
+    @DisplayName("빈 파일 테스트")
+    @Test
+    void validateEmpty() throws IOException {
+        Path input  = Files.createFile(directory.resolve("empty.csv"));
+        Path output = directory.resolve("empty.out");
+
+        FileValidator.Summary summary = builder().build().validate(input, output);
+
+        assertEquals(0, summary.getLines());
+        assertEquals(0, Files.size(output));
+    }
+}
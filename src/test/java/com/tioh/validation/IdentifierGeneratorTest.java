@@ -0,0 +1,115 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("식별번호 생성기 테스트")
+class IdentifierGeneratorTest {
+
+    private static final int COUNT = 20_000;
+
+    private final IValidator validator = Validator.getInstance();
+
+    private static Stream<Arguments> getType() {
+        return Arrays.stream(ValidationType.values())
+                .flatMap(type -> Stream.of(Arguments.of(type, false), Arguments.of(type, true)));
+    }
+
+    @DisplayName("결과코드 / 비율 테스트")
+    @ParameterizedTest(name = "{index} => type={0}, formatted={1}")
+    @MethodSource("getType")
+    void reason(ValidationType type, boolean formatted) {
+        IdentifierGenerator.Builder builder = IdentifierGenerator.builder(type).seed(7).formatted(formatted);
+        Set<Reason> reasons = IdentifierGenerator.reasons(type);
+        reasons.remove(Reason.VALID);
+        double ratio = 0.5 / reasons.size();
+        reasons.forEach(reason -> builder.ratio(reason, ratio));
+        IdentifierGenerator generator = builder.build();
+        assertEquals(type, generator.getType());
+
+        Map<Reason, Integer> counts = new EnumMap<>(Reason.class);
+        for (int i = 0; i < COUNT; i++) {
+            String value = generator.get(i);
+            Reason reason = generator.reason(i);
+            assertEquals(reason, type.check(validator, value), value);
+            if (formatted && reason == Reason.VALID && type != ValidationType.VEHICLE_REGISTRATION_NUMBER
+                    && type != ValidationType.VEHICLE_IDENTIFICATION_NUMBER) {
+                assertTrue(value.indexOf('-') > 0, value);
+            }
+            counts.merge(reason, 1, Integer::sum);
+        }
+        assertEquals(COUNT / 2, counts.get(Reason.VALID), COUNT * 0.02);
+        for (Reason reason : reasons) {
+            assertEquals(COUNT * ratio, counts.get(reason), COUNT * 0.02, reason::name);
+        }
+    }
+
+    @DisplayName("시드 / 병렬 생성 테스트")
+    @Test
+    void deterministic() {
+        IdentifierGenerator generator = IdentifierGenerator.builder(ValidationType.RESIDENT_REGISTRATION_NUMBER)
+                .seed(42)
+                .ratio(Reason.CHECKSUM, 0.1)
+                .build();
+        List<String> sequential = generator.stream(0, COUNT).collect(Collectors.toList());
+        assertEquals(sequential, generator.stream(0, COUNT).parallel().collect(Collectors.toList()));
+        assertEquals(sequential.subList(1000, 2000), generator.stream(1000, 2000).collect(Collectors.toList()));
+        assertEquals(sequential.get(123), IdentifierGenerator.builder(ValidationType.RESIDENT_REGISTRATION_NUMBER)
+                .seed(42).ratio(Reason.CHECKSUM, 0.1).build().get(123));
+        assertNotEquals(sequential, IdentifierGenerator.builder(ValidationType.RESIDENT_REGISTRATION_NUMBER)
+                .seed(43).ratio(Reason.CHECKSUM, 0.1).build().stream(0, COUNT).collect(Collectors.toList()));
+        assertTrue(sequential.stream().distinct().count() > COUNT * 0.99);
+    }
+
+    @DisplayName("채널 출력 테스트")
+    @Test
+    void write() throws IOException {
+        IdentifierGenerator generator = IdentifierGenerator.builder(ValidationType.VEHICLE_REGISTRATION_NUMBER)
+                .seed(1)
+                .ratio(Reason.USAGE_SIGN, 0.1)
+                .ratio(Reason.EMPTY, 0.1)
+                .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (WritableByteChannel channel = Channels.newChannel(out)) {
+            assertEquals(0, generator.write(channel, 5, 5));
+            long written = generator.write(channel, 0, COUNT);
+            assertEquals(out.size(), written);
+        }
+        String expected = generator.stream(0, COUNT).map(value -> value + "\n").collect(Collectors.joining());
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @DisplayName("exception 테스트")
+    @Test
+    void exception() {
+        IdentifierGenerator.Builder builder = IdentifierGenerator.builder(ValidationType.BUSINESS_REGISTRATION_NUMBER);
+        assertThrows(IllegalArgumentException.class, () -> builder.ratio(Reason.VALID, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> builder.ratio(Reason.GENDER_CODE, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> builder.ratio(Reason.CHECKSUM, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> builder.ratio(Reason.CHECKSUM, Double.NaN));
+        builder.ratio(Reason.CHECKSUM, 0.6).ratio(Reason.SIZE, 0.6);
+        assertThrows(IllegalArgumentException.class, builder::build);
+        IdentifierGenerator generator = builder.ratio(Reason.SIZE, 0.4).build();
+        assertThrows(IllegalArgumentException.class, () -> generator.stream(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> generator.stream(10, 9));
+        assertThrows(NullPointerException.class, () -> IdentifierGenerator.builder(null));
+    }
+}
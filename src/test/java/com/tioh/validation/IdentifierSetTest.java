@@ -0,0 +1,146 @@
+package com.tioh.validation;
+
+import com.tioh.validation.exceptions.BusinessRegistrationNumberFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("식별번호 집합 테스트")
+class IdentifierSetTest {
+
+    @DisplayName("포함 여부 테스트")
+    @Test
+    void contains() {
+        IdentifierSet set = IdentifierSet.builder(ValidationType.BUSINESS_REGISTRATION_NUMBER, 2)
+                .add("1058169429")
+                .add("105-81-69429")
+                .add(BusinessRegistrationNumberValue.parse("1068197118").pack())
+                .build();
+        assertEquals(2, set.size());
+        assertEquals(ValidationType.BUSINESS_REGISTRATION_NUMBER, set.getType());
+        assertTrue(set.contains("105-81-69429"));
+        assertTrue(set.contains("1068197118"));
+        assertTrue(set.contains(BusinessRegistrationNumberValue.parse("1058169429").pack()));
+        assertFalse(set.contains(-1L));
+        assertFalse(set.contains(Long.MIN_VALUE));
+        assertFalse(set.contains("1058169428"));
+        assertFalse(set.contains("abc"));
+        assertFalse(set.contains((String) null));
+
+        IdentifierSet phones = IdentifierSet.builder(ValidationType.MOBILE_PHONE_NUMBER, 1).add("010-1234-5678").build();
+        assertTrue(phones.contains("01012345678"));
+        assertFalse(phones.contains("0101234567"));
+
+        IdentifierSet rrns = IdentifierSet.builder(ValidationType.RESIDENT_REGISTRATION_NUMBER, 0).add("6407131018433").build();
+        assertTrue(rrns.contains("640713-1018433"));
+    }
+
+    @DisplayName("exception 테스트")
+    @Test
+    void exception() {
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSet.builder(ValidationType.VEHICLE_REGISTRATION_NUMBER, 1));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSet.builder(ValidationType.MOBILE_PHONE_NUMBER, -1));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSet.builder(ValidationType.MOBILE_PHONE_NUMBER, 1 << 30));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSet.builder(ValidationType.MOBILE_PHONE_NUMBER, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSet.builder(ValidationType.MOBILE_PHONE_NUMBER, (1 << 26) + 1));
+        assertThrows(BusinessRegistrationNumberFormatException.class,
+                () -> IdentifierSet.builder(ValidationType.BUSINESS_REGISTRATION_NUMBER, 1).add("1058169428"));
+        IdentifierSet.Builder builder = IdentifierSet.builder(ValidationType.BUSINESS_REGISTRATION_NUMBER, 1);
+        builder.add(1).add(2).add(3);
+        assertThrows(IllegalStateException.class, () -> builder.add(4));
+
+        IdentifierSet.Builder reused = IdentifierSet.builder(ValidationType.BUSINESS_REGISTRATION_NUMBER, 4).add(1);
+        IdentifierSet set = reused.build();
+        assertThrows(IllegalStateException.class, () -> reused.add(2));
+        assertThrows(IllegalStateException.class, () -> reused.add("1058169429"));
+        assertFalse(set.contains(2));
+        assertEquals(1, set.size());
+    }
+
+    @DisplayName("파일 매핑 테스트")
+    @Test
+    void map(@TempDir Path dir) throws IOException {
+        Random random = new Random(42);
+        Set<Long> expected = new HashSet<>();
+        IdentifierSet.Builder builder = IdentifierSet.builder(ValidationType.RESIDENT_REGISTRATION_NUMBER, 10_000);
+        while (expected.size() < 10_000) {
+            long packed = random.nextLong() & Long.MAX_VALUE;
+            expected.add(packed);
+            builder.add(packed);
+        }
+        Path path = dir.resolve("rrn.set");
+        builder.build().write(path);
+
+        IdentifierSet set = IdentifierSet.map(path);
+        assertEquals(ValidationType.RESIDENT_REGISTRATION_NUMBER, set.getType());
+        assertEquals(expected.size(), set.size());
+        for (long packed : expected) {
+            assertTrue(set.contains(packed));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            long packed = random.nextLong() & Long.MAX_VALUE;
+            assertEquals(expected.contains(packed), set.contains(packed));
+        }
+    }
+
+    @DisplayName("잘못된 파일 테스트")
+    @Test
+    void corrupted(@TempDir Path dir) throws IOException {
+        Path empty = Files.write(dir.resolve("empty"), new byte[0]);
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSet.map(empty));
+
+        Path path = dir.resolve("brn.set");
+        IdentifierSet.builder(ValidationType.BUSINESS_REGISTRATION_NUMBER, 4).add("1058169429").build().write(path);
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(16, 3);
+        Path corrupted = Files.write(dir.resolve("corrupted"), bytes);
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSet.map(corrupted));
+
+        Path truncated = Files.write(dir.resolve("truncated"), new byte[IdentifierSet.HEADER + 8]);
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSet.map(truncated));
+    }
+
+    @DisplayName("동시 조회 테스트")
+    @Test
+    void concurrent() throws Exception {
+        IdentifierSet.Builder builder = IdentifierSet.builder(ValidationType.MOBILE_PHONE_NUMBER, 1000);
+        for (int i = 0; i < 1000; i++) {
+            builder.add(String.format("010%08d", i * 7));
+        }
+        IdentifierSet set = builder.build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    int hits = 0;
+                    for (int i = 0; i < 7000; i++) {
+                        if (set.contains(String.format("010%08d", i))) hits++;
+                    }
+                    return hits;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                assertEquals(1000, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.tioh.validation;
+
+import com.tioh.validation.IncrementalValidator.Status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("입력 단위 검증 테스트")
+class IncrementalValidatorTest {
+
+    private final IValidator validator = Validator.getInstance();
+
+    private static Stream<Arguments> getStatus() {
+        return Stream.of(
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-81-6942", Status.INCOMPLETE),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-81-69429", Status.VALID),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-81-69428", Status.DEAD_END),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-8a", Status.DEAD_END),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "640713-1", Status.INCOMPLETE),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "640713-5", Status.DEAD_END),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "640713-1018433", Status.VALID),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "서울", Status.INCOMPLETE),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "광명", Status.DEAD_END),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "12과", Status.DEAD_END),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "12 가 1234", Status.VALID),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "12가12345", Status.DEAD_END),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B92P5", Status.INCOMPLETE),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B92P5A", Status.DEAD_END),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B92P546818", Status.VALID),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B82P546818", Status.DEAD_END),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "03", Status.INCOMPLETE),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "035", Status.DEAD_END),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "02-123-4567", Status.INCOMPLETE),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "031-123-4567", Status.VALID),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "031-1234-5678", Status.VALID),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "02-1234-56789", Status.DEAD_END)
+        );
+    }
+
+    @DisplayName("상태 테스트")
+    @ParameterizedTest(name = "{index} => type={0}, value={1}, status={2}")
+    @MethodSource("getStatus")
+    void status(ValidationType type, String value, Status status) {
+        IncrementalValidator incremental = IncrementalValidator.of(type);
+        assertEquals(Status.INCOMPLETE, incremental.status());
+        assertEquals(status, incremental.append(value));
+        assertEquals(value, incremental.toString());
+        assertEquals(value.length(), incremental.length());
+        incremental.clear();
+        assertEquals(Status.INCOMPLETE, incremental.status());
+        assertEquals(status, incremental.append(value));
+    }
+
+    @DisplayName("파이프라인과 비교 테스트")
+    @ParameterizedTest(name = "{index} => type={0}")
+    @EnumSource(ValidationType.class)
+    void pipeline(ValidationType type) {
+        IdentifierGenerator.Builder builder = IdentifierGenerator.builder(type).seed(11).formatted(true);
+        Set<Reason> reasons = IdentifierGenerator.reasons(type);
+        reasons.remove(Reason.VALID);
+        reasons.forEach(reason -> builder.ratio(reason, 0.5 / reasons.size()));
+        IdentifierGenerator generator = builder.build();
+
+        IncrementalValidator incremental = IncrementalValidator.of(type);
+        for (int n = 0; n < 2000; n++) {
+            String value = generator.get(n) + (n % 7 == 0 ? "9" : "");
+            Status[] statuses = new Status[value.length() + 1];
+            statuses[0] = incremental.status();
+            boolean valid = type.check(validator, value).isValid();
+            for (int i = 0; i < value.length(); i++) {
+                Status status = incremental.append(value.charAt(i));
+                String prefix = value.substring(0, i + 1);
+                assertEquals(type.check(validator, prefix).isValid(), status == Status.VALID, prefix);
+                if (valid) assertNotEquals(Status.DEAD_END, status, prefix);
+                statuses[i + 1] = status;
+            }
+            for (int i = value.length(); i > 0; i--) {
+                assertEquals(statuses[i - 1], incremental.delete(), value);
+            }
+            assertEquals(0, incremental.length());
+        }
+        assertEquals(Status.INCOMPLETE, incremental.delete());
+    }
+
+    @DisplayName("exception 테스트")
+    @Test
+    void exception() {
+        assertThrows(NullPointerException.class, () -> IncrementalValidator.of(null));
+    }
+}
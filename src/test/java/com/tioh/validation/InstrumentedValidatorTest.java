@@ -0,0 +1,110 @@
+package com.tioh.validation;
+
+import com.tioh.validation.exceptions.BusinessRegistrationNumberFormatException;
+import com.tioh.validation.exceptions.SizeLimitException;
+import com.tioh.validation.exceptions.UsageSignException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("계측 검증기 테스트")
+class InstrumentedValidatorTest {
+
+    private final ValidationMetrics     metrics   = new ValidationMetrics(1);
+    private final InstrumentedValidator validator = new InstrumentedValidator(Validator.getInstance(), metrics);
+
+    @DisplayName("결과코드 / 예외 종류별 기록 테스트")
+    @Test
+    void record() {
+        assertTrue(validator.businessRegistrationNumber("1058169429"));
+        assertEquals(Reason.CHECKSUM, validator.checkBusinessRegistrationNumber("0000000002"));
+        assertThrows(BusinessRegistrationNumberFormatException.class, () -> validator.businessRegistrationNumber("0000000002"));
+        assertThrows(SizeLimitException.class, () -> validator.businessRegistrationNumber("10681971181"));
+        assertThrows(UsageSignException.class, () -> validator.vehicleRegistrationNumber("09차0360"));
+        assertTrue(validator.mobilePhoneNumber("01012345678"));
+
+        ValidationMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(4, snapshot.getCalls(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(1, snapshot.getValid(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(3, snapshot.getInvalid(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(2, snapshot.getCount(ValidationType.BUSINESS_REGISTRATION_NUMBER, Reason.CHECKSUM));
+        assertEquals(2, (long) snapshot.getFailures(ValidationType.BUSINESS_REGISTRATION_NUMBER).get(BusinessRegistrationNumberFormatException.class));
+        assertEquals(1, (long) snapshot.getFailures(ValidationType.BUSINESS_REGISTRATION_NUMBER).get(SizeLimitException.class));
+        assertEquals(1, (long) snapshot.getRejections(ValidationType.VEHICLE_REGISTRATION_NUMBER).get(Reason.USAGE_SIGN));
+        assertEquals(1, snapshot.getValid(ValidationType.MOBILE_PHONE_NUMBER));
+        assertEquals(0, snapshot.getCalls(ValidationType.VEHICLE_IDENTIFICATION_NUMBER));
+        assertEquals(4, snapshot.getLatencySamples(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertTrue(snapshot.getLatency(ValidationType.BUSINESS_REGISTRATION_NUMBER, 99) > 0);
+        assertTrue(snapshot.getMeanLatency(ValidationType.BUSINESS_REGISTRATION_NUMBER) > 0);
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().getCalls(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(0, metrics.snapshot().getLatencySamples(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+    }
+
+    @DisplayName("일괄 검증 기록 테스트")
+    @Test
+    void recordBulk() {
+        List<String> values = Arrays.asList("1058169429", "", "0000000002", "1058169429");
+        validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, values);
+        validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, values.toArray(new String[0]));
+        assertEquals(4, validator.validateAll(ValidationType.BUSINESS_REGISTRATION_NUMBER, values.stream()).collect(Collectors.toList()).size());
+
+        ValidationMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(12, snapshot.getCalls(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(6, snapshot.getValid(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(3, snapshot.getCount(ValidationType.BUSINESS_REGISTRATION_NUMBER, Reason.EMPTY));
+        assertEquals(0, snapshot.getLatencySamples(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+    }
+
+    @DisplayName("동시 기록 테스트")
+    @Test
+    void recordConcurrently() {
+        ValidationMetrics sampled = new ValidationMetrics();
+        IValidator instrumented = new InstrumentedValidator(Validator.getInstance(), sampled);
+        IntStream.range(0, 100_000).parallel()
+                .forEach(i -> instrumented.checkBusinessRegistrationNumber(i % 2 == 0 ? "1058169429" : "0000000002"));
+        ValidationMetrics.Snapshot snapshot = sampled.snapshot();
+        assertEquals(100_000, snapshot.getCalls(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        assertEquals(50_000, snapshot.getValid(ValidationType.BUSINESS_REGISTRATION_NUMBER));
+        long samples = snapshot.getLatencySamples(ValidationType.BUSINESS_REGISTRATION_NUMBER);
+        assertTrue(samples > 0 && samples < 100_000, "samples=" + samples);
+    }
+
+    @DisplayName("지연시간 기록 간격 exception 테스트")
+    @Test
+    void illegalSampling() {
+        assertThrows(IllegalArgumentException.class, () -> new ValidationMetrics(0));
+        assertThrows(IllegalArgumentException.class, () -> new ValidationMetrics(3));
+    }
+
+    @DisplayName("JMX MBean 테스트")
+    @Test
+    void mbean() throws Exception {
+        validator.checkBusinessRegistrationNumber("1058169429");
+        validator.checkBusinessRegistrationNumber("0000000002");
+        ObjectName name = metrics.register("test");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(2L, server.getAttribute(name, "Calls"));
+            assertEquals(1L, server.getAttribute(name, "Invalid"));
+            assertEquals(1L, server.invoke(name, "count",
+                    new Object[]{"BUSINESS_REGISTRATION_NUMBER", "CHECKSUM"},
+                    new String[]{String.class.getName(), String.class.getName()}));
+            assertTrue(((String) server.getAttribute(name, "Summary")).contains("CHECKSUM=1"));
+            assertThrows(IllegalStateException.class, () -> metrics.register("test"));
+        } finally {
+            metrics.unregister("test");
+        }
+        assertEquals(Arrays.asList(), ManagementFactory.getPlatformMBeanServer().queryNames(name, null).stream().collect(Collectors.toList()));
+    }
+}
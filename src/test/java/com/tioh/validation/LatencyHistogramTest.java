@@ -0,0 +1,59 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("지연시간 히스토그램 테스트")
+class LatencyHistogramTest {
+
+    @DisplayName("구간 경계 테스트")
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 7, 8, 9, 15, 16, 17, 100, 1_000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE})
+    void bounds(long value) {
+        int index = LatencyHistogram.index(value);
+        assertTrue(index >= 0 && index < LatencyHistogram.BUCKETS);
+        assertTrue(value <= LatencyHistogram.upperBound(index));
+        assertTrue(index == 0 || value > LatencyHistogram.upperBound(index - 1));
+        assertTrue(LatencyHistogram.upperBound(index) - value <= value / LatencyHistogram.SUB_BUCKETS);
+    }
+
+    @DisplayName("구간 연속성 테스트")
+    @Test
+    void contiguous() {
+        for (int i = 1; i < LatencyHistogram.BUCKETS; i++) {
+            assertEquals(LatencyHistogram.upperBound(i - 1) + 1, LatencyHistogram.upperBound(i) - width(i) + 1, "index " + i);
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.upperBound(i)));
+        }
+    }
+
+    private static long width(int index) {
+        return index < 2 * LatencyHistogram.SUB_BUCKETS ? 1 : 1L << (index / LatencyHistogram.SUB_BUCKETS - 1);
+    }
+
+    @DisplayName("백분위 테스트")
+    @Test
+    void percentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, LatencyHistogram.percentile(histogram.counts(), 50));
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+        long[] counts = histogram.counts();
+        assertEquals(0, LatencyHistogram.percentile(counts, 0));
+        long p50 = LatencyHistogram.percentile(counts, 50);
+        long p99 = LatencyHistogram.percentile(counts, 99);
+        assertTrue(p50 >= 500 && p50 <= 500 + 500 / LatencyHistogram.SUB_BUCKETS, "p50=" + p50);
+        assertTrue(p99 >= 990 && p99 <= 990 + 990 / LatencyHistogram.SUB_BUCKETS, "p99=" + p99);
+        assertEquals(1023, LatencyHistogram.percentile(counts, 100));
+        assertEquals(500500, histogram.total());
+
+        histogram.reset();
+        assertEquals(0, LatencyHistogram.percentile(histogram.counts(), 50));
+        assertEquals(0, histogram.total());
+    }
+}
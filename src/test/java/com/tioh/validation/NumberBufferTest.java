@@ -0,0 +1,72 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("입력 정규화 테스트")
+class NumberBufferTest {
+
+    private static Stream<Arguments> getNormalize() {
+        return Stream.of(
+                Arguments.of("105-86-94786", "1058694786", -1),
+                Arguments.of("640713 - 1018433", "6407131018433", -1),
+                Arguments.of("wvw - uk63b", "wvwuk63b", 0),
+                Arguments.of("09 조 0360", "09조0360", 2),
+                Arguments.of("--  --", "", -1)
+        );
+    }
+
+    @DisplayName("구분자 제거 테스트")
+    @ParameterizedTest(name = "{index} => input={0}, expectation={1}, nonDigit={2}")
+    @MethodSource("getNormalize")
+    void normalize(String input, String expectation, int nonDigit) {
+        NumberBuffer buffer = NumberBuffer.of(input);
+        assertEquals(expectation, buffer.toString());
+        assertEquals(expectation.length(), buffer.length());
+        assertEquals(nonDigit, buffer.nonDigit());
+    }
+
+    @DisplayName("UTF-8 바이트 정규화 테스트")
+    @Test
+    void normalizeBytes() {
+        byte[] bytes = {'0', '9', '-', (byte) 0xEC, (byte) 0xA1, (byte) 0xB0, ' ', (byte) 0xFF, '3', (byte) 0xEC, (byte) 0xA1};
+        NumberBuffer array = NumberBuffer.of(bytes, 0, bytes.length);
+        assertEquals("09조\uFFFD3\uFFFD\uFFFD", array.toString());
+        assertEquals(2, array.nonDigit());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        assertEquals(array.toString(), NumberBuffer.of(direct).toString());
+        assertEquals(0, direct.position());
+        direct.position(3).limit(6);
+        assertEquals("조", NumberBuffer.of(direct).toString());
+    }
+
+    @DisplayName("숫자 변환 테스트")
+    @Test
+    void digit() {
+        NumberBuffer buffer = NumberBuffer.of("0-1 9");
+        assertTrue(buffer.isDigits());
+        assertEquals(0, buffer.digit(0));
+        assertEquals(1, buffer.digit(1));
+        assertEquals(9, buffer.digit(2));
+    }
+
+    @DisplayName("최대 길이 초과 테스트")
+    @Test
+    void overCapacity() {
+        String input = "1234567890123456789012345678901234567890a";
+        NumberBuffer buffer = NumberBuffer.of(input);
+        assertEquals(input.length(), buffer.length());
+        assertEquals(input.length() - 1, buffer.nonDigit());
+        assertEquals(input.substring(0, NumberBuffer.CAPACITY), buffer.toString());
+    }
+}
@@ -1,10 +1,12 @@
 package com.tioh.validation;
 
 
+import com.tioh.validation.exceptions.PhoneNumberFormatException;
 import com.tioh.validation.exceptions.SizeLimitException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -20,7 +22,25 @@ class PhoneNumberTest {
                 Arguments.of("0100000000", true),
                 Arguments.of("01000000000", true),
                 Arguments.of("01700000000", true),
-                Arguments.of("0200000000", true)
+                Arguments.of("0200000000", true),
+                Arguments.of("03112345678", true),
+                Arguments.of("06412345678", true),
+                Arguments.of("07012345678", true),
+                Arguments.of("08012345678", true)
+        );
+    }
+
+    private static Stream<Arguments> getCategory() {
+        return Stream.of(
+                Arguments.of("01012345678", PhoneNumberCategory.MOBILE),
+                Arguments.of("0111234567", PhoneNumberCategory.MOBILE_SK_TELECOM),
+                Arguments.of("0181234567", PhoneNumberCategory.MOBILE_KT),
+                Arguments.of("01912345678", PhoneNumberCategory.MOBILE_LG_UPLUS),
+                Arguments.of("0212345678", PhoneNumberCategory.SEOUL),
+                Arguments.of("04412345678", PhoneNumberCategory.SEJONG),
+                Arguments.of("0641234567", PhoneNumberCategory.JEJU),
+                Arguments.of("07012345678", PhoneNumberCategory.INTERNET),
+                Arguments.of("0801234567", PhoneNumberCategory.TOLL_FREE)
         );
     }
 
@@ -53,8 +73,36 @@ class PhoneNumberTest {
 
     @DisplayName("모바일번호 패턴 exception 테스트")
     @ParameterizedTest
-    @ValueSource(strings = {"010000000ㅁㄴㅇㄹ", "01000afe", "11000000000", "010000000000000"})
+    @ValueSource(strings = {"010000000ㅁㄴㅇㄹ", "01000afe", "+", "++01012345", "+01012345+", "0+10123456"})
     void checkPatternException2(String num) {
         assertThrows(NumberFormatException.class, () -> PhoneNumber.getInstance().checkPattern().apply(num));
     }
+
+    @DisplayName("모바일번호 식별번호 exception 테스트")
+    @ParameterizedTest
+    @ValueSource(strings = {"11000000000", "010000000000000", "02000000000", "0350000000", "0120000000", "0900000000",
+            "+311234576", "+0101234567"})
+    void checkPatternException3(String num) {
+        assertThrows(PhoneNumberFormatException.class, () -> PhoneNumber.getInstance().checkPattern().apply(num));
+    }
+
+    @DisplayName("식별번호 분류 테스트")
+    @ParameterizedTest(name = "{index} => num={0}, category={1}")
+    @MethodSource("getCategory")
+    void category(String num, PhoneNumberCategory category) {
+        assertEquals(category, PhoneNumber.category(num));
+        assertEquals(category, PhoneNumberValue.parse(num).category());
+        assertEquals(category.isMobile(), num.startsWith("01"));
+        assertNull(PhoneNumber.category(num + "00"));
+    }
+
+    @DisplayName("식별번호 분류 종류 테스트")
+    @ParameterizedTest
+    @EnumSource(PhoneNumberCategory.class)
+    void categoryKind(PhoneNumberCategory category) {
+        for (String prefix : category.getPrefixes()) {
+            assertEquals(prefix.startsWith("01"), category.isMobile(), prefix);
+            assertEquals(prefix.charAt(1) >= '2' && prefix.charAt(1) <= '6', category.isArea(), prefix);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package com.tioh.validation;
+
+import com.tioh.validation.exceptions.PhoneNumberFormatException;
+import com.tioh.validation.exceptions.SizeLimitException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("전화번호 값 테스트")
+class PhoneNumberValueTest {
+
+    private static Stream<Arguments> getFormat() {
+        return Stream.of(
+                Arguments.of("01012345678", "010-1234-5678"),
+                Arguments.of("010-123-4567", "010-123-4567"),
+                Arguments.of("0212345678", "02-1234-5678"),
+                Arguments.of("0311234567", "031-123-4567")
+        );
+    }
+
+    @DisplayName("변환 / 형식 테스트")
+    @ParameterizedTest(name = "{index} => num={0}, format={1}")
+    @MethodSource("getFormat")
+    void parse(String num, String format) {
+        PhoneNumberValue value = PhoneNumberValue.parse(num);
+        assertEquals(format, value.format());
+        assertEquals(format.replace("-", ""), value.digits());
+        assertEquals(value, PhoneNumberValue.tryParse(num).orElse(null));
+        assertEquals(value, PhoneNumberValue.unpack(value.pack()));
+        assertEquals(value.hashCode(), PhoneNumberValue.parse(format).hashCode());
+    }
+
+    @DisplayName("변환 exception 테스트")
+    @Test
+    void parseException() {
+        assertThrows(SizeLimitException.class, () -> PhoneNumberValue.parse("01000"));
+        assertThrows(SizeLimitException.class, () -> PhoneNumberValue.parse(" - "));
+        assertThrows(SizeLimitException.class, () -> Validator.getInstance().mobilePhoneNumber(" - "));
+        assertFalse(PhoneNumberValue.tryParse(" - ").isPresent());
+        assertThrows(PhoneNumberFormatException.class, () -> PhoneNumberValue.parse("1100000000"));
+        assertFalse(PhoneNumberValue.tryParse("0100000000r").isPresent());
+        assertNotEquals(PhoneNumberValue.parse("0101234567"), PhoneNumberValue.parse("01001234567"));
+        assertThrows(IllegalArgumentException.class, () -> PhoneNumberValue.unpack(12345));
+    }
+}
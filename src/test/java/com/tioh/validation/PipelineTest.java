@@ -0,0 +1,60 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("파이프라인 테스트")
+class PipelineTest {
+
+    private static final Pipeline pipeline = Pipeline.builder()
+            .stage(Stage.length(10, 13))
+            .stage(Stage.digits())
+            .stage(ctx -> ctx.length() == 10
+                    ? Stage.businessRegistrationNumberChecksum().apply(ctx)
+                    : Stage.residentRegistrationNumberChecksum().apply(ctx))
+            .build();
+
+    private static Stream<Arguments> getPipeline() {
+        return Stream.of(
+                Arguments.of("105-86-94786", Reason.VALID),
+                Arguments.of("640713-1018433", Reason.VALID),
+                Arguments.of(null, Reason.EMPTY),
+                Arguments.of(" - ", Reason.SIZE),
+                Arguments.of("105869478", Reason.SIZE),
+                Arguments.of("10586947a6", Reason.NOT_NUMERIC),
+                Arguments.of("0000000002", Reason.CHECKSUM),
+                Arguments.of("7910011123141", Reason.CHECKSUM)
+        );
+    }
+
+    @DisplayName("사용자 조립 파이프라인 테스트")
+    @ParameterizedTest(name = "{index} => input={0}, reason={1}")
+    @MethodSource("getPipeline")
+    void check(String input, Reason reason) {
+        assertEquals(reason, pipeline.check(input));
+    }
+
+    @DisplayName("빈 파이프라인 테스트")
+    @Test
+    void empty() {
+        Pipeline empty = Pipeline.builder().build();
+        assertTrue(empty.isValid("anything"));
+        assertFalse(empty.isValid(""));
+    }
+
+    @DisplayName("단계 직접 호출 테스트")
+    @Test
+    void stage() {
+        assertEquals(Reason.VALID, Stage.vehicleIdentificationNumberChecksum().apply("wvw-uk63b-92p-546818"));
+        assertEquals(Reason.USAGE_SIGN, Stage.vehicleRegistrationNumberSign().apply("09차0360"));
+        assertEquals(Reason.FORMAT, Stage.mobilePhoneNumberPattern().apply("1100000000"));
+        assertEquals(Reason.GENDER_CODE, Stage.residentRegistrationNumberGenderCode().apply("8110225123112"));
+    }
+}
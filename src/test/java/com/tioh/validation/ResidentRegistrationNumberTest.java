@@ -6,7 +6,13 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -67,4 +73,50 @@ class ResidentRegistrationNumberTest {
     void checkGenderCodeException(String rrn) {
         assertThrows(GenderCodeException.class, () -> ResidentRegistrationNumber.getInstance().checkGenderCode().apply(rrn));
     }
+
+    /**
+     * 조회 테이블 도입 전 구현
+     */
+    private static boolean reference(String ctx) {
+        List<Integer> weightsTable = Arrays.asList(2, 3, 4, 5, 6, 7, 8, 9, 2, 3, 4, 5);
+        int sum = IntStream.range(0, weightsTable.size())
+                .map(i -> Integer.parseInt(Character.toString(ctx.charAt(i))) * weightsTable.get(i))
+                .sum();
+        int key    = 11;
+        int result = key - sum % key;
+        return result == Integer.parseInt(Character.toString(ctx.charAt(12)));
+    }
+
+    @Order(7)
+    @DisplayName("주민번호 검증번호 기존 구현 비교 테스트")
+    @ParameterizedTest(name = "{index} => seed={0}")
+    @ValueSource(longs = {1L, 42L, 20191018L})
+    void checksumProperty(long seed) {
+        ResidentRegistrationNumber instance = ResidentRegistrationNumber.getInstance();
+        Random random = new Random(seed);
+        for (int n = 0; n < 20_000; n++) {
+            String prefix = String.format("%012d", (random.nextLong() >>> 1) % 1_000_000_000_000L);
+            for (int check = 0; check < 10; check++) {
+                String rrn = prefix + check;
+                assertEquals(reference(rrn), instance.checksum(rrn).isValid(), rrn);
+            }
+        }
+    }
+
+    @Order(8)
+    @DisplayName("주민번호 자리별 검증번호 전수 비교 테스트")
+    @ParameterizedTest(name = "{index} => idx={0}")
+    @ValueSource(ints = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11})
+    void checksumExhaustivePosition(int idx) {
+        ResidentRegistrationNumber instance = ResidentRegistrationNumber.getInstance();
+        for (int num = 0; num < 10; num++) {
+            for (int check = 0; check < 10; check++) {
+                char[] rrn = "0000000000000".toCharArray();
+                rrn[idx] = (char) ('0' + num);
+                rrn[12] = (char) ('0' + check);
+                String value = new String(rrn);
+                assertEquals(reference(value), instance.checksum(value).isValid(), value);
+            }
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.tioh.validation;
+
+import com.tioh.validation.exceptions.GenderCodeException;
+import com.tioh.validation.exceptions.ResidentRegistrationNumberFormatException;
+import com.tioh.validation.exceptions.SizeLimitException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("주민등록번호 값 테스트")
+class ResidentRegistrationNumberValueTest {
+
+    @DisplayName("변환 / 형식 테스트")
+    @ParameterizedTest
+    @ValueSource(strings = {"6407131018433", "640713 - 1018433"})
+    void parse(String rrn) {
+        ResidentRegistrationNumberValue value = ResidentRegistrationNumberValue.parse(rrn);
+        assertEquals(6407131018433L, value.pack());
+        assertEquals("640713-1018433", value.format());
+        assertEquals("640713-1******", value.toString());
+        assertEquals(1, value.genderCode());
+        assertEquals(value, ResidentRegistrationNumberValue.tryParse(rrn).orElse(null));
+        assertEquals(value, ResidentRegistrationNumberValue.unpack(value.pack()));
+    }
+
+    @DisplayName("변환 exception 테스트")
+    @Test
+    void parseException() {
+        assertThrows(GenderCodeException.class, () -> ResidentRegistrationNumberValue.parse("6407135018433"));
+        assertThrows(ResidentRegistrationNumberFormatException.class, () -> ResidentRegistrationNumberValue.parse("6407131018434"));
+        assertFalse(ResidentRegistrationNumberValue.tryParse("6407131018434").isPresent());
+        assertFalse(ResidentRegistrationNumberValue.tryParse(null).isPresent());
+        assertThrows(SizeLimitException.class, () -> ResidentRegistrationNumberValue.parse("---"));
+        assertThrows(SizeLimitException.class, () -> Validator.getInstance().residentRegistrationNumber("---"));
+        assertFalse(ResidentRegistrationNumberValue.tryParse("---").isPresent());
+        assertThrows(IllegalArgumentException.class, () -> ResidentRegistrationNumberValue.unpack(-1));
+        assertThrows(IllegalArgumentException.class, () -> ResidentRegistrationNumberValue.unpack(0));
+        assertThrows(IllegalArgumentException.class, () -> ResidentRegistrationNumberValue.unpack(6407135018433L));
+        assertThrows(IllegalArgumentException.class, () -> ResidentRegistrationNumberValue.unpack(6407131018434L));
+    }
+}
@@ -0,0 +1,53 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.CharBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("한글 기호 테이블 테스트")
+class SignTableTest {
+
+    private final SignTable table = new SignTable("가", "힣", "서울", "경기", "준외");
+
+    @DisplayName("기호 포함 테스트")
+    @ParameterizedTest
+    @ValueSource(strings = {"가", "힣", "서울", "경기", "준외"})
+    void contains(String sign) {
+        assertTrue(table.contains(sign, 0, sign.length()));
+        assertTrue(table.contains("12" + sign + "34", 2, sign.length()));
+    }
+
+    @DisplayName("기호 미포함 테스트")
+    @ParameterizedTest
+    @ValueSource(strings = {"나", "ㄱ", "|", "a", "울서", "경", "기경", "준영", "서울시"})
+    void notContains(String sign) {
+        assertFalse(table.contains(sign, 0, sign.length()));
+    }
+
+    @DisplayName("전체 2음절 조합 충돌 테스트")
+    @Test
+    void perfectHash() {
+        char[] pair = new char[2];
+        CharBuffer ctx = CharBuffer.wrap(pair);
+        int count = 0;
+        for (char c1 = SignTable.FIRST; c1 <= SignTable.LAST; c1++) {
+            for (char c2 = SignTable.FIRST; c2 <= SignTable.LAST; c2++) {
+                pair[0] = c1;
+                pair[1] = c2;
+                if (table.contains(ctx, 0, 2)) count++;
+            }
+        }
+        assertEquals(3, count);
+    }
+
+    @DisplayName("잘못된 기호 exception 테스트")
+    @Test
+    void illegalSign() {
+        assertThrows(IllegalArgumentException.class, () -> new SignTable("서울시"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("식별번호 종류 판별 테스트")
+class TypeDetectorTest {
+
+    private final IValidator validator = Validator.getInstance();
+
+    private static Stream<Arguments> getDetect() {
+        return Stream.of(
+                Arguments.of("105-81-69429", ValidationType.BUSINESS_REGISTRATION_NUMBER, Reason.VALID),
+                Arguments.of("1058169428", ValidationType.BUSINESS_REGISTRATION_NUMBER, Reason.CHECKSUM),
+                Arguments.of("640713-1018433", ValidationType.RESIDENT_REGISTRATION_NUMBER, Reason.VALID),
+                Arguments.of("640713-5018433", ValidationType.RESIDENT_REGISTRATION_NUMBER, Reason.GENDER_CODE),
+                Arguments.of("서울12가1234", ValidationType.VEHICLE_REGISTRATION_NUMBER, Reason.VALID),
+                Arguments.of("12과1234", ValidationType.VEHICLE_REGISTRATION_NUMBER, Reason.USAGE_SIGN),
+                Arguments.of("WVWUK63B92P546818", ValidationType.VEHICLE_IDENTIFICATION_NUMBER, Reason.VALID),
+                Arguments.of("11111111111111111", ValidationType.VEHICLE_IDENTIFICATION_NUMBER, Reason.VALID),
+                Arguments.of("010-1234-5678", ValidationType.MOBILE_PHONE_NUMBER, Reason.VALID),
+                Arguments.of("0212345678", ValidationType.MOBILE_PHONE_NUMBER, Reason.VALID),
+                Arguments.of("01012345678", ValidationType.MOBILE_PHONE_NUMBER, Reason.VALID),
+                Arguments.of("0350000000", ValidationType.MOBILE_PHONE_NUMBER, Reason.FORMAT)
+        );
+    }
+
+    @DisplayName("판별 테스트")
+    @ParameterizedTest(name = "{index} => value={0}, type={1}, reason={2}")
+    @MethodSource("getDetect")
+    void detect(String value, ValidationType type, Reason reason) {
+        ValidationResult result = TypeDetector.detect(value).orElseThrow(AssertionError::new);
+        assertEquals(type, result.getType());
+        assertEquals(reason, result.getReason());
+        assertEquals(result, validator.validate(type, value));
+        assertEquals(Optional.of(result), TypeDetector.detect(CachingValidator.builder(validator).build(), value));
+    }
+
+    @DisplayName("사업자번호 / 전화번호 판별 테스트")
+    @Test
+    void ambiguous() {
+        assertEquals(Arrays.asList(ValidationType.MOBILE_PHONE_NUMBER, ValidationType.BUSINESS_REGISTRATION_NUMBER),
+                TypeDetector.candidates("0101234567"));
+        // 0 으로 시작하는 유효한 사업자번호는 전화번호 형식이 아니면 사업자번호로 판별
+        String valid = "0000000001";
+        for (int prefix = 0; prefix < 1000; prefix++) {
+            int check = BusinessRegistrationNumber.checkDigit(prefix);
+            if (check >= 0) {
+                valid = String.format("%09d%d", prefix, check);
+                break;
+            }
+        }
+        assertEquals(ValidationType.BUSINESS_REGISTRATION_NUMBER, TypeDetector.detect(valid).map(ValidationResult::getType).orElse(null));
+        assertEquals(ValidationType.MOBILE_PHONE_NUMBER, TypeDetector.detect("0101234567").map(ValidationResult::getType).orElse(null));
+    }
+
+    @DisplayName("판별 불가 테스트")
+    @Test
+    void none() {
+        assertFalse(TypeDetector.detect(null).isPresent());
+        assertFalse(TypeDetector.detect("").isPresent());
+        assertFalse(TypeDetector.detect("12345").isPresent());
+        assertFalse(TypeDetector.detect("105-81-6942O").isPresent());
+        assertEquals(Collections.emptyList(), TypeDetector.candidates("11012345678"));
+        // 전화번호는 10, 11자리만 유효
+        assertEquals(Collections.emptyList(), TypeDetector.candidates("02-123-4567"));
+        assertEquals(Collections.emptyList(), TypeDetector.candidates("123456789"));
+        assertEquals(Collections.emptyList(), TypeDetector.candidates("010123456789"));
+        assertEquals(Collections.emptyList(), TypeDetector.candidates("12가1234!"));
+        assertEquals(Collections.emptyList(), TypeDetector.candidates("12가A234"));
+        // 차량번호는 7, 9자만 유효
+        assertEquals(Collections.singletonList(ValidationType.VEHICLE_REGISTRATION_NUMBER), TypeDetector.candidates("12가1234"));
+        assertEquals(Collections.singletonList(ValidationType.VEHICLE_REGISTRATION_NUMBER), TypeDetector.candidates("서울 12가 1234"));
+        assertEquals(Collections.emptyList(), TypeDetector.candidates("서울1가1234"));
+        assertEquals(Collections.emptyList(), TypeDetector.candidates("서울123가1234"));
+    }
+
+    @DisplayName("생성한 번호 판별 테스트")
+    @ParameterizedTest(name = "{index} => type={0}")
+    @EnumSource(ValidationType.class)
+    void generated(ValidationType type) {
+        IdentifierGenerator generator = IdentifierGenerator.builder(type).seed(5).formatted(true).build();
+        for (int i = 0; i < 2000; i++) {
+            String value = generator.get(i);
+            ValidationResult result = TypeDetector.detect(value).orElseThrow(AssertionError::new);
+            assertTrue(result.isValid(), value);
+            Set<ValidationType> valid = EnumSet.noneOf(ValidationType.class);
+            for (ValidationType candidate : ValidationType.values()) {
+                if (candidate.check(validator, value).isValid()) valid.add(candidate);
+            }
+            assertTrue(valid.contains(result.getType()), value);
+            if (valid.size() == 1) assertEquals(type, result.getType(), value);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.tioh.validation;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.LoggerFactory;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("검증기 로그 정책 테스트")
+class ValidationLoggerTest {
+
+    private final Logger                    logger   = (Logger) LoggerFactory.getLogger(ResidentRegistrationNumber.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level level;
+
+    @BeforeEach
+    void setUp() {
+        level = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(level);
+        LoggingPolicy.disable();
+        LoggingPolicy.setSampling(1);
+        LoggingPolicy.setMasking(true);
+    }
+
+    private static Stream<Arguments> getMask() {
+        return Stream.of(
+                Arguments.of(7, 0, "9001011234567", "9001011******"),
+                Arguments.of(7, 0, "900101-1234567", "900101-1******"),
+                Arguments.of(3, 4, "01012345678", "010****5678"),
+                Arguments.of(3, 4, "010-1234-5678", "010-****-5678"),
+                Arguments.of(3, 4, "0101234", "010****"),
+                Arguments.of(3, 4, "", "")
+        );
+    }
+
+    @DisplayName("마스킹 테스트")
+    @ParameterizedTest(name = "{index} => value={2}, masked={3}")
+    @MethodSource("getMask")
+    void mask(int prefix, int suffix, String value, String masked) {
+        assertEquals(masked, ValidationLogger.masked(ValidationLoggerTest.class, prefix, suffix).mask(value));
+        LoggingPolicy.setMasking(false);
+        assertEquals(value, ValidationLogger.masked(ValidationLoggerTest.class, prefix, suffix).mask(value));
+        assertEquals(value, ValidationLogger.of(ValidationLoggerTest.class).mask(value));
+    }
+
+    @DisplayName("정책 꺼짐 테스트")
+    @Test
+    void disabled() {
+        Validator.getInstance().checkResidentRegistrationNumber("9001011234567");
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @DisplayName("정책 켜짐 마스킹 테스트")
+    @Test
+    void enabled() {
+        LoggingPolicy.enable();
+        Validator.getInstance().checkResidentRegistrationNumber("900101-1234567");
+        String messages = appender.list.stream().map(ILoggingEvent::getFormattedMessage).collect(Collectors.joining("\n"));
+        assertTrue(messages.contains("900101-1******"), messages);
+        assertFalse(messages.contains("1234567"), messages);
+    }
+
+    @DisplayName("샘플링 테스트")
+    @Test
+    void sampling() {
+        LoggingPolicy.enable();
+        LoggingPolicy.setSampling(8);
+        for (int i = 0; i < 8000; i++) {
+            Validator.getInstance().checkResidentRegistrationNumber("9001011234567");
+        }
+        int logged = appender.list.size();
+        assertTrue(logged > 500 && logged < 1500, "logged=" + logged);
+        assertThrows(IllegalArgumentException.class, () -> LoggingPolicy.setSampling(0));
+    }
+}
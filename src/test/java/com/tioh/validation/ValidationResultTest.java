@@ -0,0 +1,84 @@
+package com.tioh.validation;
+
+import com.tioh.validation.exceptions.BusinessRegistrationNumberFormatException;
+import com.tioh.validation.exceptions.GenderCodeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("검증 결과 테스트")
+class ValidationResultTest {
+
+    private final IValidator validator = Validator.getInstance();
+
+    private static Stream<Arguments> getResult() {
+        return Stream.of(
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-81-69429", Reason.VALID, -1),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-81-69428", Reason.CHECKSUM, 9),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "01000000ab", Reason.NOT_NUMERIC, 8),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "", Reason.EMPTY, -1),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "10681971181", Reason.SIZE, -1),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "8110225123112", Reason.GENDER_CODE, 6),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "811022r123112", Reason.NOT_NUMERIC, 6),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "7910011123141", Reason.CHECKSUM, 12),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "09차0360", Reason.USAGE_SIGN, 2),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "광명12가1234", Reason.AREA_SIGN, 0),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "123가123", Reason.FORMAT, 2),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B92P54681Q", Reason.ILLEGAL_CHAR, 16),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B82P546818", Reason.CHECKSUM, 8),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "1100000000", Reason.FORMAT, 0),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "035-000-0000", Reason.FORMAT, 2),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "02000000000", Reason.FORMAT, -1),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "0100000000r", Reason.NOT_NUMERIC, 10)
+        );
+    }
+
+    @DisplayName("결과코드 / 위치 테스트")
+    @ParameterizedTest(name = "{index} => type={0}, value={1}, reason={2}, position={3}")
+    @MethodSource("getResult")
+    void validate(ValidationType type, String value, Reason reason, int position) {
+        ValidationResult result = validator.validate(type, value);
+        assertEquals(type, result.getType());
+        assertEquals(reason, result.getReason());
+        assertEquals(position, result.getPosition());
+        assertEquals(reason, type.check(validator, value));
+        assertSame(result, validator.validate(type, value));
+        assertSame(result, ValidationResult.of(type, reason, position));
+
+        CachingValidator caching = CachingValidator.builder(validator).build();
+        assertSame(result, caching.validate(type, value));
+        assertSame(result, caching.validate(type, value));
+        assertSame(result, new InstrumentedValidator(validator, new ValidationMetrics()).validate(type, value));
+    }
+
+    @DisplayName("미리 만든 결과 테스트")
+    @Test
+    void interned() {
+        ValidationType type = ValidationType.BUSINESS_REGISTRATION_NUMBER;
+        assertSame(ValidationResult.valid(type), ValidationResult.of(type, Reason.VALID, 5));
+        assertSame(ValidationResult.of(type, Reason.NOT_NUMERIC, NumberBuffer.CAPACITY - 1),
+                ValidationResult.of(type, Reason.NOT_NUMERIC, NumberBuffer.CAPACITY - 1));
+        ValidationResult far = ValidationResult.of(type, Reason.NOT_NUMERIC, NumberBuffer.CAPACITY + 8);
+        assertEquals(far, ValidationResult.of(type, Reason.NOT_NUMERIC, NumberBuffer.CAPACITY + 8));
+        assertEquals(far.hashCode(), ValidationResult.of(type, Reason.NOT_NUMERIC, NumberBuffer.CAPACITY + 8).hashCode());
+        assertEquals(NumberBuffer.CAPACITY + 8, far.getPosition());
+        assertEquals("BUSINESS_REGISTRATION_NUMBER CHECKSUM at 9", ValidationResult.of(type, Reason.CHECKSUM, 9).toString());
+        assertEquals("BUSINESS_REGISTRATION_NUMBER VALID", ValidationResult.valid(type).toString());
+    }
+
+    @DisplayName("예외 변환 테스트")
+    @Test
+    void exception() {
+        assertNull(validator.validate(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1058169429").exception("1058169429"));
+        assertTrue(validator.validate(ValidationType.BUSINESS_REGISTRATION_NUMBER, "1058169428").exception("1058169428")
+                instanceof BusinessRegistrationNumberFormatException);
+        assertTrue(validator.validate(ValidationType.RESIDENT_REGISTRATION_NUMBER, "8110225123112").exception("8110225123112")
+                instanceof GenderCodeException);
+    }
+}
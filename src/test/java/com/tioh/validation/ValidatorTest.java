@@ -6,9 +6,19 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -110,7 +120,8 @@ class ValidatorTest {
         return Stream.of(
                 Arguments.of("1100000000", PhoneNumberFormatException.class),
                 Arguments.of("0100000000r", NumberFormatException.class),
-                Arguments.of("11000000000", NumberFormatException.class),
+                Arguments.of("+311234576", PhoneNumberFormatException.class),
+                Arguments.of("11000000000", PhoneNumberFormatException.class),
                 Arguments.of("017000000", SizeLimitException.class),
                 Arguments.of("01000", SizeLimitException.class),
                 Arguments.of("010000000000000", SizeLimitException.class),
@@ -118,6 +129,72 @@ class ValidatorTest {
         );
     }
 
+    private static Stream<Arguments> getBusinessRegistrationNumberReason() {
+        return Stream.of(
+                Arguments.of("105-86-94786", Reason.VALID),
+                Arguments.of("", Reason.EMPTY),
+                Arguments.of("10681971181", Reason.SIZE),
+                Arguments.of("가나다라123410", Reason.NOT_NUMERIC),
+                Arguments.of("0000000002", Reason.CHECKSUM)
+        );
+    }
+
+    private static Stream<Arguments> getResidentRegistrationNumberReason() {
+        return Stream.of(
+                Arguments.of("640713 - 1018433", Reason.VALID),
+                Arguments.of("660216112311", Reason.SIZE),
+                Arguments.of("811022r123112", Reason.NOT_NUMERIC),
+                Arguments.of("8110225123112", Reason.GENDER_CODE),
+                Arguments.of("7910011123141", Reason.CHECKSUM)
+        );
+    }
+
+    private static Stream<Arguments> getVehicleRegistrationNumberReason() {
+        return Stream.of(
+                Arguments.of("서울02가1111", Reason.VALID),
+                Arguments.of("서울2가1111", Reason.SIZE),
+                Arguments.of("09차0360", Reason.USAGE_SIGN),
+                Arguments.of("광명12가1234", Reason.AREA_SIGN),
+                Arguments.of("123가123", Reason.FORMAT)
+        );
+    }
+
+    private static Stream<Arguments> getVehicleIdentificationNumberReason() {
+        return Stream.of(
+                Arguments.of("wvw - uk63b - 92p - 546818", Reason.VALID),
+                Arguments.of("WVWUK63B92P54681", Reason.SIZE),
+                Arguments.of("WVWUK63B92P54681Q", Reason.ILLEGAL_CHAR),
+                Arguments.of("WVWUK63B82P546818", Reason.CHECKSUM)
+        );
+    }
+
+    private static Stream<Arguments> getMobilePhoneNumberReason() {
+        return Stream.of(
+                Arguments.of("010-0000-0000", Reason.VALID),
+                Arguments.of("017000000", Reason.SIZE),
+                Arguments.of("0100000000r", Reason.NOT_NUMERIC),
+                Arguments.of("1100000000", Reason.FORMAT),
+                Arguments.of("+311234576", Reason.FORMAT)
+        );
+    }
+
+    private static Stream<Arguments> getByteInput() {
+        return Stream.of(
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "105-86-94786", Reason.VALID),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "", Reason.EMPTY),
+                Arguments.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, "가나다라123410", Reason.NOT_NUMERIC),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "640713 - 1018433", Reason.VALID),
+                Arguments.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, "8110225123112", Reason.GENDER_CODE),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "서울02가1111", Reason.VALID),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "09차0360", Reason.USAGE_SIGN),
+                Arguments.of(ValidationType.VEHICLE_REGISTRATION_NUMBER, "광명12가1234", Reason.AREA_SIGN),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "wvw - uk63b - 92p - 546818", Reason.VALID),
+                Arguments.of(ValidationType.VEHICLE_IDENTIFICATION_NUMBER, "WVWUK63B82P546818", Reason.CHECKSUM),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "010-0000-0000", Reason.VALID),
+                Arguments.of(ValidationType.MOBILE_PHONE_NUMBER, "1100000000", Reason.FORMAT)
+        );
+    }
+
     @Order(1)
     @DisplayName("사업자번호 테스트")
     @ParameterizedTest(name = "{index} => brn={0}, expectation={1}")
@@ -197,4 +274,109 @@ class ValidatorTest {
     void mobilePhoneNumber(String num, Class<? extends Throwable> exception) {
         assertThrows(exception,() -> validator.mobilePhoneNumber(num));
     }
+
+    @Order(11)
+    @DisplayName("사업자번호 결과코드 테스트")
+    @ParameterizedTest(name = "{index} => brn={0}, reason={1}")
+    @MethodSource("getBusinessRegistrationNumberReason")
+    void checkBusinessRegistrationNumber(String brn, Reason reason) {
+        assertEquals(reason, validator.checkBusinessRegistrationNumber(brn));
+    }
+
+    @Order(12)
+    @DisplayName("주민등록번호 결과코드 테스트")
+    @ParameterizedTest(name = "{index} => rrn={0}, reason={1}")
+    @MethodSource("getResidentRegistrationNumberReason")
+    void checkResidentRegistrationNumber(String rrn, Reason reason) {
+        assertEquals(reason, validator.checkResidentRegistrationNumber(rrn));
+    }
+
+    @Order(13)
+    @DisplayName("차량번호 결과코드 테스트")
+    @ParameterizedTest(name = "{index} => vrn={0}, reason={1}")
+    @MethodSource("getVehicleRegistrationNumberReason")
+    void checkVehicleRegistrationNumber(String vrn, Reason reason) {
+        assertEquals(reason, validator.checkVehicleRegistrationNumber(vrn));
+    }
+
+    @Order(14)
+    @DisplayName("차대번호 결과코드 테스트")
+    @ParameterizedTest(name = "{index} => vin={0}, reason={1}")
+    @MethodSource("getVehicleIdentificationNumberReason")
+    void checkVehicleIdentificationNumber(String vin, Reason reason) {
+        assertEquals(reason, validator.checkVehicleIdentificationNumber(vin));
+    }
+
+    @Order(15)
+    @DisplayName("모바일번호 결과코드 테스트")
+    @ParameterizedTest(name = "{index} => num={0}, reason={1}")
+    @MethodSource("getMobilePhoneNumberReason")
+    void checkMobilePhoneNumber(String num, Reason reason) {
+        assertEquals(reason, validator.checkMobilePhoneNumber(num));
+    }
+
+    @Order(16)
+    @DisplayName("다중 스레드 동시 검증 테스트")
+    @Test
+    void concurrent() throws Exception {
+        int threads = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int valid = 0;
+                    for (int n = 0; n < 10_000; n++) {
+                        IValidator instance = Validator.getInstance();
+                        assertSame(validator, instance);
+                        if (instance.checkBusinessRegistrationNumber("1058169429").isValid()) valid++;
+                        if (instance.checkMobilePhoneNumber("01012345678").isValid()) valid++;
+                        if (instance.checkVehicleRegistrationNumber("12가1234").isValid()) valid++;
+                        if (instance.checkBusinessRegistrationNumber("0000000002").isValid()) valid++;
+                    }
+                    return valid;
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                assertEquals(30_000, (int) future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Order(17)
+    @DisplayName("바이트 입력 결과코드 테스트")
+    @ParameterizedTest(name = "{index} => type={0}, value={1}, reason={2}")
+    @MethodSource("getByteInput")
+    void checkBytes(ValidationType type, String value, Reason reason) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        byte[] field = new byte[bytes.length + 6];
+        Arrays.fill(field, (byte) '9');
+        System.arraycopy(bytes, 0, field, 3, bytes.length);
+        assertEquals(reason, validator.check(type, field, 3, bytes.length));
+
+        ByteBuffer heap = ByteBuffer.wrap(field, 3, bytes.length);
+        assertEquals(reason, validator.check(type, heap));
+        assertEquals(3, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(field.length);
+        direct.put(field).position(3).limit(3 + bytes.length);
+        assertEquals(reason, validator.check(type, direct));
+        assertEquals(3, direct.position());
+    }
+
+    @Order(18)
+    @DisplayName("바이트 입력 범위 exception 테스트")
+    @Test
+    void checkBytesOutOfBounds() {
+        byte[] bytes = "1058169429".getBytes(StandardCharsets.US_ASCII);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, bytes, 1, bytes.length));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> validator.check(ValidationType.BUSINESS_REGISTRATION_NUMBER, bytes, -1, 2));
+    }
 }
@@ -0,0 +1,46 @@
+package com.tioh.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * vector 프로파일(JDK 17 이상)에서는 multi-release 클래스로 한 번 더 실행하여 Vector API 구현을 확인한다.
+ */
+@DisplayName("Vector API 가중합 테스트")
+class VectorChecksumTest {
+
+    private static final int[][] WEIGHTS = {{1, 3, 7, 1, 3, 7, 1, 3, 5, 1}, {2, 3, 4, 5, 6, 7, 8, 9, 2, 3, 4, 5}};
+
+    @DisplayName("구현 선택 테스트")
+    @Test
+    void supported() {
+        if (Boolean.getBoolean("tioh.validation.vector.test")) {
+            assertTrue(VectorChecksum.isSupported());
+            assertTrue(BatchChecksum.VECTOR);
+        }
+    }
+
+    @DisplayName("스칼라 가중합과 비교 테스트")
+    @Test
+    void weightedSum() {
+        Random random = new Random(20191018);
+        int    stride = BatchChecksum.LANES;
+        for (int[] weights : WEIGHTS) {
+            int[] digits = new int[weights.length * stride];
+            for (int lanes : new int[]{0, 1, 7, 8, 31, stride - 1, stride}) {
+                for (int i = 0; i < digits.length; i++) {
+                    digits[i] = random.nextInt(10);
+                }
+                int[] expected = new int[stride];
+                int[] actual   = new int[stride];
+                BatchChecksum.scalarSum(digits, stride, lanes, weights, expected);
+                VectorChecksum.weightedSum(digits, stride, lanes, weights, actual);
+                assertArrayEquals(expected, actual, "lanes=" + lanes);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.tioh.validation.exceptions.IllegalCharacterException;
 import com.tioh.validation.exceptions.SizeLimitException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -11,6 +12,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -76,4 +81,80 @@ class VehicleIdentificationNumberTest {
     void checkPatternException(String vin) {
         assertThrows(IllegalCharacterException.class, () -> VehicleIdentificationNumber.getInstance().checkPattern().apply(vin));
     }
+
+    @DisplayName("차대번호 단일 패스 결과코드 테스트")
+    @ParameterizedTest(name = "{index} => vin={0}, reason={1}")
+    @MethodSource("getVehicleIdentificationNumberReason")
+    void vin(String vin, Reason reason) {
+        assertEquals(reason, VehicleIdentificationNumber.getInstance().vin(vin));
+    }
+
+    static Stream<Arguments> getVehicleIdentificationNumberReason() {
+        return Stream.of(
+                Arguments.of("WVWUK63B92P546818", Reason.VALID),
+                Arguments.of("wvwuk63b92p546818", Reason.VALID),
+                Arguments.of("WVW-UK63 B92P546818", Reason.VALID),
+                Arguments.of("1M8GDM9AXKP042788", Reason.VALID),
+                Arguments.of("1m8gdm9axkp042788", Reason.VALID),
+                Arguments.of("1M8GDM9A2KP042788", Reason.CHECKSUM),
+                Arguments.of("WVWUK63BX2P546818", Reason.CHECKSUM),
+                Arguments.of("WVWUK63B82P546818", Reason.CHECKSUM),
+                Arguments.of("WVWUK63BA2P546818", Reason.ILLEGAL_CHAR),
+                Arguments.of("IVWUK63B92P546818", Reason.ILLEGAL_CHAR),
+                Arguments.of("oVWUK63B92P546818", Reason.ILLEGAL_CHAR),
+                Arguments.of("WVWUK63B92Q546818", Reason.ILLEGAL_CHAR),
+                Arguments.of("WVWUK63B92PA46818", Reason.ILLEGAL_CHAR),
+                Arguments.of("WVWUK63B92P54681가", Reason.ILLEGAL_CHAR),
+                Arguments.of("WVWUK63B92P54681", Reason.SIZE)
+        );
+    }
+
+    @DisplayName("차대번호 단일 패스 / 기존 알고리즘 비교 테스트")
+    @Test
+    void vinProperty() {
+        String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz_";
+        VehicleIdentificationNumber instance = VehicleIdentificationNumber.getInstance();
+        for (long seed : new long[]{1, 42, 20191018}) {
+            Random random = new Random(seed);
+            char[] chars = new char[17];
+            for (int n = 0; n < 100_000; n++) {
+                for (int i = 0; i < chars.length; i++) {
+                    // 뒤 6자리는 대부분 숫자로 채워 검증번호 단계까지 도달하도록 함
+                    chars[i] = i >= 11 && random.nextInt(20) != 0
+                            ? (char) ('0' + random.nextInt(10))
+                            : alphabet.charAt(random.nextInt(alphabet.length()));
+                }
+                String vin = new String(chars);
+                assertEquals(reference(vin), instance.vin(vin), vin);
+            }
+        }
+    }
+
+    private static final Pattern              PATTERN         = Pattern.compile("^[A-HJ-NPR-Z\\d]{8}[\\dX][A-HJ-NPR-Z\\d]{2}\\d{6}$");
+    private static final int[]                WEIGHTS         = {8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final Map<String, Integer> TRANSLITERATION = new HashMap<>();
+
+    static {
+        String keys   = "0123456789ABCDEFGHJKLMNPRSTUVWXYZ";
+        int[]  values = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 1, 2, 3, 4, 5, 6, 7, 8, 1, 2, 3, 4, 5, 7, 9, 2, 3, 4, 5, 6, 7, 8, 9};
+        for (int i = 0; i < keys.length(); i++) {
+            TRANSLITERATION.put(Character.toString(keys.charAt(i)), values[i]);
+        }
+    }
+
+    /**
+     * 정규식 + Map 기반 기존 알고리즘
+     */
+    private static Reason reference(String vin) {
+        String upperVin = vin.toUpperCase();
+        if (!PATTERN.matcher(upperVin).matches()) return Reason.ILLEGAL_CHAR;
+        int sum = 0;
+        for (int i = 0; i < upperVin.length(); i++) {
+            sum += TRANSLITERATION.get(Character.toString(upperVin.charAt(i))) * WEIGHTS[i];
+        }
+        int  result     = sum % 11;
+        char checkDigit = upperVin.charAt(8);
+        if (checkDigit == 'X') return result == 10 ? Reason.VALID : Reason.CHECKSUM;
+        return result == checkDigit - '0' ? Reason.VALID : Reason.CHECKSUM;
+    }
 }
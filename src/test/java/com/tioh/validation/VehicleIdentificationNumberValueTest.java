@@ -0,0 +1,34 @@
+package com.tioh.validation;
+
+import com.tioh.validation.exceptions.IllegalCharacterException;
+import com.tioh.validation.exceptions.VehicleIdentificationNumberFormatException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("차대번호 값 테스트")
+class VehicleIdentificationNumberValueTest {
+
+    @DisplayName("변환 / 형식 테스트")
+    @ParameterizedTest
+    @ValueSource(strings = {"WVWUK63B92P546818", "wvwuk63b92p546818", "wvw-uk63b-92p-546818", "1M8GDM9AXKP042788", "11111111111111111"})
+    void parse(String vin) {
+        VehicleIdentificationNumberValue value = VehicleIdentificationNumberValue.parse(vin);
+        assertEquals(vin.replace("-", "").toUpperCase(), value.format());
+        assertEquals(value, VehicleIdentificationNumberValue.tryParse(vin).orElse(null));
+        assertEquals(value, VehicleIdentificationNumberValue.unpack(value.packHigh(), value.packLow()));
+        assertEquals(value.hashCode(), VehicleIdentificationNumberValue.parse(value.format()).hashCode());
+    }
+
+    @DisplayName("변환 exception 테스트")
+    @Test
+    void parseException() {
+        assertThrows(VehicleIdentificationNumberFormatException.class, () -> VehicleIdentificationNumberValue.parse("WVWUK63B82P546818"));
+        assertThrows(IllegalCharacterException.class, () -> VehicleIdentificationNumberValue.parse("IVWUK63B92P546818"));
+        assertFalse(VehicleIdentificationNumberValue.tryParse("WVWUK63B82P546818").isPresent());
+        assertThrows(IllegalArgumentException.class, () -> VehicleIdentificationNumberValue.unpack(-1, -1));
+    }
+}
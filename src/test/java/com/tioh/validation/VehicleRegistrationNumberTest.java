@@ -5,6 +5,7 @@ import com.tioh.validation.exceptions.SizeLimitException;
 import com.tioh.validation.exceptions.UsageSignException;
 import com.tioh.validation.exceptions.VehicleRegistrationNumberFormatException;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -12,6 +13,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -83,4 +89,79 @@ class VehicleRegistrationNumberTest {
     void checkPatternException(String rrn) {
         assertThrows(VehicleRegistrationNumberFormatException.class, () -> VehicleRegistrationNumber.getInstance().checkPattern().apply(rrn));
     }
+
+    private static Stream<Arguments> getVehicleRegistrationNumberReason() {
+        return Stream.of(
+                Arguments.of("12가1234", Reason.VALID),
+                Arguments.of("12 가 1234", Reason.VALID),
+                Arguments.of("경기12가1234", Reason.VALID),
+                Arguments.of("12준외1234", Reason.VALID),
+                Arguments.of("서울12국기1234", Reason.VALID),
+                Arguments.of("12과1234", Reason.USAGE_SIGN),
+                Arguments.of("12ㄱ1234", Reason.USAGE_SIGN),
+                Arguments.of("경기12가나1234", Reason.USAGE_SIGN),
+                Arguments.of("광명12가1234", Reason.AREA_SIGN),
+                Arguments.of("ㄱㄴ12가1234", Reason.AREA_SIGN),
+                Arguments.of("123가123", Reason.FORMAT),
+                Arguments.of("경기12a2354", Reason.FORMAT),
+                Arguments.of("a12가나12354", Reason.FORMAT),
+                Arguments.of("12가12345678", Reason.FORMAT)
+        );
+    }
+
+    @DisplayName("차량번호 단일 패스 결과코드 테스트")
+    @ParameterizedTest(name = "{index} => vrn={0}, reason={1}")
+    @MethodSource("getVehicleRegistrationNumberReason")
+    void plate(String vrn, Reason reason) {
+        assertEquals(reason, VehicleRegistrationNumber.getInstance().plate(vrn));
+    }
+
+    @DisplayName("차량번호 단일 패스 / 기존 정규식 비교 테스트")
+    @Test
+    void plateProperty() {
+        String[] hangul = {"가", "나", "허", "과", "준", "외", "국", "기", "경", "서", "울", "광", "명", "ㄱ", "ㅏ", "|"};
+        String[] other  = {"0", "1", "9", "a", "-", " "};
+        VehicleRegistrationNumber instance = VehicleRegistrationNumber.getInstance();
+        for (long seed : new long[]{1, 42, 20191018}) {
+            Random random = new Random(seed);
+            for (int n = 0; n < 50_000; n++) {
+                StringBuilder vrn = new StringBuilder();
+                int length = 6 + random.nextInt(6);
+                for (int i = 0; i < length; i++) {
+                    // 숫자 위주로 채우고 한글을 섞어 각 구성요소 경계를 흔든다
+                    vrn.append(random.nextInt(3) == 0
+                            ? hangul[random.nextInt(hangul.length)]
+                            : random.nextInt(8) == 0 ? other[random.nextInt(other.length)] : Integer.toString(random.nextInt(10)));
+                }
+                assertEquals(reference(vrn.toString()), instance.plate(vrn), vrn.toString());
+            }
+            for (String area : new String[]{"경기", "서울", "광명", "ㄱㄴ"}) {
+                for (String usage : new String[]{"가", "허", "과", "준외", "국기", "가나"}) {
+                    String vrn = area + random.nextInt(10) + random.nextInt(10) + usage + (1000 + random.nextInt(9000));
+                    assertEquals(reference(vrn), instance.plate(vrn), vrn);
+                    assertEquals(reference(vrn.substring(2)), instance.plate(vrn.substring(2)), vrn.substring(2));
+                }
+            }
+        }
+    }
+
+    private static final List<String> USAGE_SIGN = Arrays.asList("가", "나", "다", "라", "마", "거", "너", "더", "러", "머", "버", "서", "어", "저", "고", "노", "도", "로", "모", "보", "소", "오", "조", "구", "누", "두", "루", "무", "부", "수", "우", "주", "바", "사", "아", "자", "허", "배", "호", "하", "준외", "준영", "국기", "협정");
+    private static final List<String> AREA_SIGN  = Arrays.asList("경기", "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주", "서울", "인천", "대전", "부산", "대구", "광주", "울산", "세종");
+    private static final Pattern      PATTERN    = Pattern.compile("^(\\d{2})([ㄱ-ㅎ|ㅏ-ㅣ|가-힣]{1,2})(\\d{4})$");
+    private static final Pattern      PATTERN2   = Pattern.compile("^([ㄱ-ㅎ|ㅏ-ㅣ|가-힣]{2})(\\d{2})([ㄱ-ㅎ|ㅏ-ㅣ|가-힣]{1,2})(\\d{4})$");
+
+    /**
+     * 정규식 기반 기존 알고리즘 (용도기호, 지역명 -> 형식 순)
+     */
+    private static Reason reference(String value) {
+        String  vrn      = value.replace("-", "").replace(" ", "");
+        Matcher matcher  = PATTERN.matcher(vrn);
+        Matcher matcher2 = PATTERN2.matcher(vrn);
+        if (matcher.matches()) return USAGE_SIGN.contains(matcher.group(2)) ? Reason.VALID : Reason.USAGE_SIGN;
+        if (matcher2.matches()) {
+            if (!USAGE_SIGN.contains(matcher2.group(3))) return Reason.USAGE_SIGN;
+            return AREA_SIGN.contains(matcher2.group(1)) ? Reason.VALID : Reason.AREA_SIGN;
+        }
+        return Reason.FORMAT;
+    }
 }
@@ -0,0 +1,55 @@
+package com.tioh.validation.processor;
+
+import com.tioh.validation.annotations.BusinessRegistrationNumber;
+import com.tioh.validation.annotations.MobilePhoneNumber;
+import com.tioh.validation.annotations.ResidentRegistrationNumber;
+import com.tioh.validation.annotations.VehicleIdentificationNumber;
+import com.tioh.validation.annotations.VehicleRegistrationNumber;
+
+class SignupRequest {
+
+    String name;
+
+    @BusinessRegistrationNumber
+    String businessNumber;
+
+    @ResidentRegistrationNumber
+    private String residentNumber;
+
+    @MobilePhoneNumber(optional = true)
+    private StringBuilder phone;
+
+    Vehicle vehicle;
+
+    SignupRequest(String businessNumber, String residentNumber, String phone) {
+        this.businessNumber = businessNumber;
+        this.residentNumber = residentNumber;
+        this.phone = phone == null ? null : new StringBuilder(phone);
+    }
+
+    String getResidentNumber() {
+        return residentNumber;
+    }
+
+    CharSequence getPhone() {
+        return phone;
+    }
+
+    static class Vehicle {
+
+        @VehicleRegistrationNumber
+        final String registrationNumber;
+
+        private final String identificationNumber;
+
+        Vehicle(String registrationNumber, String identificationNumber) {
+            this.registrationNumber = registrationNumber;
+            this.identificationNumber = identificationNumber;
+        }
+
+        @VehicleIdentificationNumber(optional = true)
+        String getIdentificationNumber() {
+            return identificationNumber;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.tioh.validation.processor;
+
+import com.tioh.validation.DtoValidator;
+import com.tioh.validation.FieldViolation;
+import com.tioh.validation.Reason;
+import com.tioh.validation.ValidationResult;
+import com.tioh.validation.ValidationType;
+import com.tioh.validation.Validator;
+import com.tioh.validation.annotations.BusinessRegistrationNumber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DTO 검증기 생성 테스트")
+class ValidatorProcessorTest {
+
+    private final DtoValidator<SignupRequest> validator = new SignupRequestValidator();
+
+    @DisplayName("생성된 검증기 테스트")
+    @Test
+    void validate() {
+        SignupRequest request = new SignupRequest("105-81-69429", "640713-1018433", "010-1234-5678");
+        assertTrue(validator.isValid(request));
+        assertSame(Collections.emptyList(), validator.validate(request));
+
+        request = new SignupRequest("105-81-69428", null, "1100000000");
+        assertEquals(Arrays.asList(
+                new FieldViolation("businessNumber", ValidationResult.of(ValidationType.BUSINESS_REGISTRATION_NUMBER, Reason.CHECKSUM, 9)),
+                new FieldViolation("residentNumber", ValidationResult.of(ValidationType.RESIDENT_REGISTRATION_NUMBER, Reason.EMPTY, -1)),
+                new FieldViolation("phone", ValidationResult.of(ValidationType.MOBILE_PHONE_NUMBER, Reason.FORMAT, 0))
+        ), validator.validate(request));
+        assertFalse(new SignupRequestValidator(Validator.getInstance()).isValid(request));
+        assertThrows(NullPointerException.class, () -> new SignupRequestValidator(null));
+    }
+
+    private static Stream<Arguments> getOptional() {
+        return Stream.of(
+                Arguments.of(null, null),
+                Arguments.of("", null),
+                Arguments.of("WVWUK63B92P546818", null),
+                Arguments.of("WVWUK63B82P546818", Reason.CHECKSUM)
+        );
+    }
+
+    @DisplayName("생략 가능 필드 / 중첩 클래스 테스트")
+    @ParameterizedTest(name = "{index} => vin={0}, reason={1}")
+    @MethodSource("getOptional")
+    void optional(String vin, Reason reason) {
+        DtoValidator<SignupRequest.Vehicle> vehicleValidator = new SignupRequest_VehicleValidator();
+        List<FieldViolation> violations = vehicleValidator.validate(new SignupRequest.Vehicle("12가1234", vin));
+        assertEquals(reason == null ? Collections.emptyList() : Collections.singletonList(reason),
+                violations.stream().map(FieldViolation::getReason).collect(Collectors.toList()));
+        if (reason != null) assertEquals("identificationNumber", violations.get(0).getField());
+
+        violations = vehicleValidator.validate(new SignupRequest.Vehicle("", vin));
+        assertEquals("registrationNumber", violations.get(0).getField());
+        assertEquals(Reason.EMPTY, violations.get(0).getReason());
+    }
+
+    private static Stream<Arguments> getError() {
+        return Stream.of(
+                Arguments.of("@BusinessRegistrationNumber int value;", "must be a CharSequence"),
+                Arguments.of("@BusinessRegistrationNumber private String value;", "needs a non-private getter"),
+                Arguments.of("@BusinessRegistrationNumber private String value; private String getValue() { return value; }", "needs a non-private getter"),
+                Arguments.of("@BusinessRegistrationNumber String value(int i) { return null; }", "must take no arguments"),
+                Arguments.of("@BusinessRegistrationNumber static String value;", "not allowed on static members"),
+                Arguments.of("@BusinessRegistrationNumber @com.tioh.validation.annotations.MobilePhoneNumber String value;", "Only one identifier annotation")
+        );
+    }
+
+    @DisplayName("컴파일 오류 테스트")
+    @ParameterizedTest(name = "{index} => source={0}")
+    @MethodSource("getError")
+    void error(String member, String message, @TempDir Path dir) {
+        String source = "package sample; import com.tioh.validation.annotations.BusinessRegistrationNumber; class Account { " + member + " }";
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(source, dir);
+        assertEquals(1, errors.size(), errors::toString);
+        assertTrue(errors.get(0).getMessage(null).contains(message), errors::toString);
+    }
+
+    @DisplayName("컴파일 성공 테스트")
+    @Test
+    void compile(@TempDir Path dir) {
+        String source = "package sample; import com.tioh.validation.annotations.BusinessRegistrationNumber; "
+                + "public class Account { @BusinessRegistrationNumber private String value; public String getValue() { return value; } }";
+        assertEquals(Collections.emptyList(), compile(source, dir));
+        assertTrue(dir.resolve("sample/AccountValidator.class").toFile().isFile());
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(String source, Path dir) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///sample/Account.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        String classPath = new File(BusinessRegistrationNumber.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                Arrays.asList("-classpath", classPath, "-d", dir.toString()),
+                null, Collections.singletonList(file));
+        task.setProcessors(Collections.singletonList(new ValidatorProcessor()));
+        task.call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .collect(Collectors.toList());
+    }
+}